@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskDTO;
@@ -17,6 +18,7 @@ import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
 
@@ -27,6 +29,9 @@ class TaskControllerTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Value("${TEST_URL:http://localhost:4000}")
     private String testUrl;
 
@@ -36,12 +41,13 @@ class TaskControllerTest {
         RestAssured.useRelaxedHTTPSValidation();
         // Make sure that there is no data in the database before the test runs
         taskRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     @Test
     void getTaskByIdTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -88,7 +94,7 @@ class TaskControllerTest {
     @Test
     void createTaskTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -111,7 +117,7 @@ class TaskControllerTest {
     @Test
     void createTaskParamValidationTitleTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            null, "desc", "status",
+            null, "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -139,7 +145,7 @@ class TaskControllerTest {
     @Test
     void updateTaskStatusTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -151,7 +157,7 @@ class TaskControllerTest {
 
         Task savedTask = taskRepository.save(task);
 
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("Updated Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
 
         Response response = given()
             .queryParam("id", savedTask.getId())
@@ -168,7 +174,7 @@ class TaskControllerTest {
 
     @Test
     void updateTaskStatusTaskDoesNotExistTest() {
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("Updated Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
 
         Response response = given()
             .queryParam("id", 1L)
@@ -189,7 +195,7 @@ class TaskControllerTest {
     @Test
     void deleteTaskTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -231,4 +237,44 @@ class TaskControllerTest {
             response.jsonPath().getMap("$").get("message")
         );
     }
+
+    @Test
+    void searchTasksTest() {
+        // H2 has no text search, so this covers the fallback: every word must appear, title matches first.
+        saveTask("Hearing", "Prepare the 50% bundle");
+        Task inTitle = saveTask("Prepare bundle", "desc");
+        saveTask("Listing", "Prepare a courtroom");
+
+        Response response = given()
+            .queryParam("q", "BUNDLE prepare")
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(
+            List.of("Prepare bundle", "Hearing"),
+            response.jsonPath().getList("tasks.title")
+        );
+        Assertions.assertEquals(inTitle.getId(), response.jsonPath().getLong("tasks[0].id"));
+
+        Response literalPercent = given()
+            .queryParam("q", "50%")
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(List.of("Hearing"), literalPercent.jsonPath().getList("tasks.title"));
+    }
+
+    private Task saveTask(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus("OPEN");
+        task.setDueDatetime(LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        return taskRepository.save(task);
+    }
 }
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives concurrent /getTask requests at a running instance of the service and records the latency of each.
+ * Shared by the benchmarks that compare how different server setups hold up under the same load.
+ */
+class GetTaskLoad {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    List<Long> createTasks(String baseUrl, int count) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",")
+                .append("{\"title\":\"Task ").append(i)
+                .append("\",\"status\":\"OPEN\",\"dueDatetime\":\"2026-02-10T00:00:00\"}");
+        }
+        HttpResponse<String> response = httpClient.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/createTasks"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        assertThat(response.statusCode()).isEqualTo(200);
+        List<Long> ids = new ArrayList<>(count);
+        for (JsonNode task : objectMapper.readTree(response.body()).get("created")) {
+            ids.add(task.get("id").asLong());
+        }
+        return ids;
+    }
+
+    /**
+     * Each client sends its requests one after another, so there are clients requests in flight throughout.
+     */
+    Result run(String baseUrl, List<Long> ids, int clients, int requestsPerClient) throws Exception {
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                int offset = client * requestsPerClient;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/getTask?id=" + id))
+                            .build();
+                        long sent = System.nanoTime();
+                        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies[offset + i] = System.nanoTime() - sent;
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status != 200) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, rejected.get(), failed.get());
+    }
+
+    record Result(long[] sortedLatencies, long elapsedNanos, int rejected, int failed) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the standard and optimized targets of the Dockerfile from build/libs/test-backend.jar and reports how long
+ * a container of each takes from being started to answering its first /getTask with a 200, the median of several
+ * starts against one Postgres container. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@Testcontainers
+class ImageStartupBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageStartupBenchmarkTest.class);
+
+    private static final int STARTS = 3;
+    private static final int PORT = 4000;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    // Reached by the application at its default datasource URL, jdbc:postgresql://postgres:5432/taskdb.
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie")
+        .withNetwork(NETWORK)
+        .withNetworkAliases("postgres")
+        .withDatabaseName("taskdb")
+        .withUsername("username")
+        .withPassword("password");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compareTimeToFirstTask() throws Exception {
+        String standard = build("standard");
+        String optimized = build("optimized");
+
+        long taskId;
+        // Migrates the schema and creates the task every later start asks for.
+        try (GenericContainer<?> app = application(standard).waitingFor(Wait.forHttp("/health/readiness"))) {
+            app.start();
+            taskId = new GetTaskLoad().createTasks(baseUrl(app), 1).get(0);
+        }
+
+        List<Long> standardMillis = new ArrayList<>();
+        List<Long> optimizedMillis = new ArrayList<>();
+        for (int i = 0; i < STARTS; i++) {
+            standardMillis.add(millisToFirstTask(standard, taskId));
+            optimizedMillis.add(millisToFirstTask(optimized, taskId));
+        }
+
+        logger.info(String.format(
+            "Container start to first /getTask 200, median of %d: standard image %dms, AOT and CDS image %dms",
+            STARTS, median(standardMillis), median(optimizedMillis)
+        ));
+        assertThat(optimizedMillis).hasSize(STARTS);
+    }
+
+    private static String build(String target) {
+        return new ImageFromDockerfile("test-backend-" + target, false)
+            .withFileFromPath("Dockerfile", Path.of("Dockerfile"))
+            .withFileFromPath("build/libs/test-backend.jar", Path.of("build/libs/test-backend.jar"))
+            .withTarget(target)
+            .get();
+    }
+
+    private static GenericContainer<?> application(String image) {
+        return new GenericContainer<>(image)
+            .withNetwork(NETWORK)
+            .withExposedPorts(PORT);
+    }
+
+    private long millisToFirstTask(String image, long taskId) throws Exception {
+        try (GenericContainer<?> app = application(image).waitingFor(new AbstractWaitStrategy() {
+            @Override
+            protected void waitUntilReady() {
+                // Timed below rather than waited on, from the moment the container is started.
+            }
+        })) {
+            long started = System.nanoTime();
+            app.start();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl(app) + "/getTask?id=" + taskId))
+                .timeout(STARTUP_TIMEOUT)
+                .build();
+            while (true) {
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet.
+                }
+                if (System.nanoTime() - started > STARTUP_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(image + " did not answer /getTask within " + STARTUP_TIMEOUT);
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+        }
+    }
+
+    private static String baseUrl(GenericContainer<?> app) {
+        return "http://" + app.getHost() + ":" + app.getMappedPort(PORT);
+    }
+
+    private static long median(List<Long> millis) {
+        List<Long> sorted = new ArrayList<>(millis);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same burst of concurrent /getTask requests against the servlet and JPA stack and then against the
+ * reactive profile, both reading the same rows from one Postgres container, and reports throughput and tail
+ * latency for each. The task cache is off so every servlet request goes to Postgres, as every reactive one does.
+ * Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@Testcontainers
+class ReactiveThroughputBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveThroughputBenchmarkTest.class);
+
+    private static final int TASKS = 1000;
+    private static final int CLIENTS = 1000;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+    private static final int MEASURED_REQUESTS_PER_CLIENT = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    private final GetTaskLoad load = new GetTaskLoad();
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        List<Long> ids;
+        GetTaskLoad.Result servlet;
+        // The servlet stack also migrates the schema and seeds the tasks, since /createTasks has no reactive twin.
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+            "--server.port=0",
+            "--spring.cache.type=none",
+            "--spring.datasource.url=" + postgres.getJdbcUrl(),
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword()
+        )) {
+            String baseUrl = baseUrl(context);
+            ids = load.createTasks(baseUrl, TASKS);
+            servlet = measure(baseUrl, ids);
+        }
+
+        GetTaskLoad.Result reactive;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+            "--server.port=0",
+            "--spring.profiles.active=reactive",
+            "--spring.r2dbc.url=r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName(),
+            "--spring.r2dbc.username=" + postgres.getUsername(),
+            "--spring.r2dbc.password=" + postgres.getPassword(),
+            "--spring.flyway.url=" + postgres.getJdbcUrl(),
+            "--spring.flyway.user=" + postgres.getUsername(),
+            "--spring.flyway.password=" + postgres.getPassword()
+        )) {
+            reactive = measure(baseUrl(context), ids);
+        }
+
+        logger.info(String.format(
+            "/getTask with %d concurrent clients: servlet and JPA %.0f req/s p50 %.1fms p99 %.1fms,"
+                + " WebFlux and R2DBC %.0f req/s p50 %.1fms p99 %.1fms",
+            CLIENTS,
+            servlet.throughput(), servlet.percentileMillis(0.50), servlet.percentileMillis(0.99),
+            reactive.throughput(), reactive.percentileMillis(0.50), reactive.percentileMillis(0.99)
+        ));
+        assertThat(servlet.failed()).isZero();
+        assertThat(reactive.failed()).isZero();
+    }
+
+    private GetTaskLoad.Result measure(String baseUrl, List<Long> ids) throws Exception {
+        load.run(baseUrl, ids, CLIENTS, WARMUP_REQUESTS_PER_CLIENT);
+        return load.run(baseUrl, ids, CLIENTS, MEASURED_REQUESTS_PER_CLIENT);
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Encodes and decodes pages of 1, 1,000 and 100,000 tasks as JSON, gzipped JSON, CBOR and Smile, and reports the
+ * payload size and the average time each takes. Needs no database or server. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class ResponseFormatBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseFormatBenchmarkTest.class);
+
+    private static final int[] PAGE_SIZES = {1, 1_000, 100_000};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private final ObjectMapper json = mapper(new ObjectMapper());
+    private final ObjectMapper cbor = mapper(new ObjectMapper(new CBORFactory()));
+    private final ObjectMapper smile = mapper(new ObjectMapper(new SmileFactory()));
+
+    @Test
+    void compareFormats() throws IOException {
+        for (int size : PAGE_SIZES) {
+            TaskPageDTO page = page(size);
+            measure("JSON", size, page, json, false);
+            measure("JSON+gzip", size, page, json, true);
+            measure("CBOR", size, page, cbor, false);
+            measure("Smile", size, page, smile, false);
+        }
+    }
+
+    private void measure(String format, int size, TaskPageDTO page, ObjectMapper mapper, boolean gzip)
+        throws IOException {
+        byte[] encoded = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            decode(mapper, encode(mapper, page, gzip), gzip);
+        }
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        TaskPageDTO decoded = null;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoded = encode(mapper, page, gzip);
+            long encodedAt = System.nanoTime();
+            decoded = decode(mapper, encoded, gzip);
+            decodeNanos += System.nanoTime() - encodedAt;
+            encodeNanos += encodedAt - start;
+        }
+        assertThat(decoded.getTasks()).hasSize(size);
+
+        logger.info(String.format(
+            "%,d tasks as %s: %,d bytes, encode %.3fms, decode %.3fms",
+            size, format, encoded.length,
+            encodeNanos / 1e6 / MEASURED_ROUNDS, decodeNanos / 1e6 / MEASURED_ROUNDS
+        ));
+    }
+
+    private static byte[] encode(ObjectMapper mapper, TaskPageDTO page, boolean gzip) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                mapper.writeValue(out, page);
+            }
+        } else {
+            mapper.writeValue(bytes, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static TaskPageDTO decode(ObjectMapper mapper, byte[] encoded, boolean gzip) throws IOException {
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+                return mapper.readValue(in, TaskPageDTO.class);
+            }
+        }
+        return mapper.readValue(encoded, TaskPageDTO.class);
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        // The same date handling as the service's own JSON.
+        return mapper.findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static TaskPageDTO page(int size) {
+        List<TaskDTO> tasks = new ArrayList<>(size);
+        LocalDateTime due = LocalDateTime.of(2026, 2, 10, 9, 30, 0);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskDTO((long) i + 1, "Task " + i, "Description of task " + i, "OPEN",
+                                  due.plusHours(i), 0L));
+        }
+        return new TaskPageDTO(tasks, size > 1 ? "aWQ6NQ" : null);
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares how long the application takes to start against an existing schema when Hibernate's ddl-auto update
+ * inspects and patches it, as it used to, with Flyway checking its history and Hibernate only validating, as it
+ * does now. The two are started alternately against one Postgres container, and the median of each is reported.
+ * Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@Testcontainers
+class StartupTimeBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeBenchmarkTest.class);
+
+    private static final int STARTS = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    @Test
+    void compareStartupTimes() {
+        // Creates the schema, so both are then timed starting against one that is already there.
+        start();
+
+        List<Long> hibernateUpdate = new ArrayList<>();
+        List<Long> flywayValidate = new ArrayList<>();
+        for (int i = 0; i < STARTS; i++) {
+            hibernateUpdate.add(start("--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"));
+            flywayValidate.add(start());
+        }
+
+        logger.info(String.format(
+            "Startup against an existing schema, median of %d: Hibernate ddl-auto update %dms,"
+                + " Flyway with Hibernate validate %dms",
+            STARTS, median(hibernateUpdate), median(flywayValidate)
+        ));
+        assertThat(flywayValidate).allMatch(millis -> millis > 0);
+    }
+
+    private static long start(String... schemaArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=" + postgres.getJdbcUrl(),
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword()
+        ));
+        args.addAll(List.of(schemaArgs));
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+            .run(args.toArray(String[]::new))) {
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    private static long median(List<Long> millis) {
+        List<Long> sorted = new ArrayList<>(millis);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares rows/sec for creating tasks one request at a time through /createTask against sending them in
+ * batches through /createTasks. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class TaskCreateBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCreateBenchmarkTest.class);
+
+    private static final int ROWS = 5000;
+    private static final int BATCH_SIZE = 1000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void bulkCreateOutperformsSingleCreate() {
+        List<CreateTaskDTO> tasks = createTaskDTOs();
+
+        // Warm up both paths so JIT compilation and connection set up aren't measured.
+        createOneByOne(tasks.subList(0, 200));
+        createInBatches(tasks.subList(0, 200));
+        taskRepository.deleteAll();
+
+        long singleStart = System.nanoTime();
+        createOneByOne(tasks);
+        double singleRowsPerSecond = rowsPerSecond(System.nanoTime() - singleStart);
+
+        taskRepository.deleteAll();
+
+        long bulkStart = System.nanoTime();
+        createInBatches(tasks);
+        double bulkRowsPerSecond = rowsPerSecond(System.nanoTime() - bulkStart);
+
+        logger.info(String.format(
+            "Created %d tasks: /createTask %.0f rows/sec, /createTasks %.0f rows/sec (%.1fx)",
+            ROWS, singleRowsPerSecond, bulkRowsPerSecond, bulkRowsPerSecond / singleRowsPerSecond
+        ));
+        assertThat(taskRepository.count()).isEqualTo(ROWS);
+        assertThat(bulkRowsPerSecond).isGreaterThan(singleRowsPerSecond);
+    }
+
+    private void createOneByOne(List<CreateTaskDTO> tasks) {
+        for (CreateTaskDTO task : tasks) {
+            given().body(task)
+                .contentType(ContentType.JSON)
+                .post("/createTask")
+                .then()
+                .statusCode(200);
+        }
+    }
+
+    private void createInBatches(List<CreateTaskDTO> tasks) {
+        for (int from = 0; from < tasks.size(); from += BATCH_SIZE) {
+            given().body(tasks.subList(from, Math.min(from + BATCH_SIZE, tasks.size())))
+                .contentType(ContentType.JSON)
+                .post("/createTasks")
+                .then()
+                .statusCode(200);
+        }
+    }
+
+    private static List<CreateTaskDTO> createTaskDTOs() {
+        List<CreateTaskDTO> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tasks.add(new CreateTaskDTO(
+                "Task " + i, "Benchmark task", "OPEN",
+                LocalDateTime.of(2026, 2, 10, 0, 0, 0).plusMinutes(i)
+            ));
+        }
+        return tasks;
+    }
+
+    private static double rowsPerSecond(long elapsedNanos) {
+        return ROWS / (elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSpecifications;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the heap allocated and the time taken per read when tasks are loaded as entities and copied with
+ * Task.toDTO, as the read paths used to, against selecting them straight into TaskDTOs. Allocation is read from
+ * the JVM's per-thread allocation counter, so it covers Hibernate, the driver and the pool as well as the
+ * mapping. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.cache.type=none")
+@Testcontainers
+class TaskReadAllocationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReadAllocationBenchmarkTest.class);
+
+    private static final int TASKS = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_READS = 2000;
+    private static final int MEASURED_READS = 5000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void projectionsAllocateLessPerRead() {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task(null, "Task " + i, "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)));
+        }
+        long id = taskRepository.saveAll(tasks).get(TASKS / 2).getId();
+
+        Runnable entityTask = () -> taskRepository.findTaskById(id).toDTO();
+        Runnable projectedTask = () -> taskRepository.findByIdAsDTO(id).orElseThrow();
+        Runnable entityPage = () -> taskRepository.findBy(
+            TaskSpecifications.pageAfter(0L, List.of("OPEN"), null, null),
+            query -> query.sortBy(Sort.by("id")).limit(PAGE_SIZE).all()
+        ).stream().map(Task::toDTO).toList();
+        Runnable projectedPage = () -> taskRepository.findPageAfter(0L, List.of("OPEN"), null, null, PAGE_SIZE);
+
+        Result entityTaskResult = measure(entityTask);
+        Result projectedTaskResult = measure(projectedTask);
+        Result entityPageResult = measure(entityPage);
+        Result projectedPageResult = measure(projectedPage);
+
+        logger.info(String.format(
+            "Per read over %d reads: task by id as entity %d B %.0fus, as projection %d B %.0fus;"
+                + " page of %d as entities %d B %.0fus, as projections %d B %.0fus",
+            MEASURED_READS,
+            entityTaskResult.bytesPerRead(), entityTaskResult.microsPerRead(),
+            projectedTaskResult.bytesPerRead(), projectedTaskResult.microsPerRead(),
+            PAGE_SIZE,
+            entityPageResult.bytesPerRead(), entityPageResult.microsPerRead(),
+            projectedPageResult.bytesPerRead(), projectedPageResult.microsPerRead()
+        ));
+        assertThat(projectedPageResult.bytesPerRead()).isLessThan(entityPageResult.bytesPerRead());
+    }
+
+    private Result measure(Runnable read) {
+        for (int i = 0; i < WARMUP_READS; i++) {
+            read.run();
+        }
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_READS; i++) {
+            read.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(allocated / MEASURED_READS, elapsed / 1000.0 / MEASURED_READS);
+    }
+
+    private record Result(long bytesPerRead, double microsPerRead) {
+    }
+}
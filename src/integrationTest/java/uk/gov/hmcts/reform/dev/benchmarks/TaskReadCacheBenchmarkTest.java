@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.configuration.CacheConfig;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures /getTask latency when every read is served from the task cache against when every read misses it
+ * and goes to Postgres. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class TaskReadCacheBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReadCacheBenchmarkTest.class);
+
+    private static final int WARMUP_REQUESTS = 2000;
+    private static final int MEASURED_REQUESTS = 10000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void cachedReadsHaveLowerTailLatency() throws Exception {
+        taskRepository.deleteAll();
+        Task task = new Task();
+        task.setTitle("Benchmark task");
+        task.setDescription("desc");
+        task.setStatus("OPEN");
+        task.setDueDatetime(LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + "/getTask?id=" + taskRepository.save(task).getId())
+        ).build();
+        Cache tasksCache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+
+        measure(request, WARMUP_REQUESTS, tasksCache);
+        measure(request, WARMUP_REQUESTS, null);
+
+        long[] uncached = measure(request, MEASURED_REQUESTS, tasksCache);
+        long[] cached = measure(request, MEASURED_REQUESTS, null);
+
+        logger.info(String.format(
+            "/getTask over %d requests: uncached p50 %.0fus p99 %.0fus, cached p50 %.0fus p99 %.0fus",
+            MEASURED_REQUESTS,
+            percentileMicros(uncached, 0.50), percentileMicros(uncached, 0.99),
+            percentileMicros(cached, 0.50), percentileMicros(cached, 0.99)
+        ));
+        assertThat(percentileMicros(cached, 0.99)).isLessThan(percentileMicros(uncached, 0.99));
+    }
+
+    /**
+     * Times each request on its own. When a cache is given it is cleared before every request, so each read
+     * misses and goes to the database.
+     */
+    private long[] measure(HttpRequest request, int requests, Cache clearBeforeEach)
+        throws IOException, InterruptedException {
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            if (clearBeforeEach != null) {
+                clearBeforeEach.clear();
+            }
+            long start = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - start;
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentileMicros(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same burst of concurrent /getTask requests against the service on platform threads and then on virtual
+ * threads, and reports throughput and tail latency for each. The task cache is off so every request goes to
+ * Postgres. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@Testcontainers
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadBenchmarkTest.class);
+
+    private static final int TASKS = 1000;
+    private static final int CLIENTS = 1000;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+    private static final int MEASURED_REQUESTS_PER_CLIENT = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
+
+    private final GetTaskLoad load = new GetTaskLoad();
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        GetTaskLoad.Result platform = run(false);
+        GetTaskLoad.Result virtual = run(true);
+
+        logger.info(String.format(
+            "/getTask with %d concurrent clients: platform threads %.0f req/s p50 %.1fms p99 %.1fms (%d rejected),"
+                + " virtual threads %.0f req/s p50 %.1fms p99 %.1fms (%d rejected)",
+            CLIENTS,
+            platform.throughput(), platform.percentileMillis(0.50), platform.percentileMillis(0.99),
+            platform.rejected(),
+            virtual.throughput(), virtual.percentileMillis(0.50), virtual.percentileMillis(0.99),
+            virtual.rejected()
+        ));
+        assertThat(platform.failed()).isZero();
+        assertThat(virtual.failed()).isZero();
+    }
+
+    private GetTaskLoad.Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtualThreads,
+            "--spring.cache.type=none",
+            "--spring.datasource.url=" + postgres.getJdbcUrl(),
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword()
+        )) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<Long> ids = load.createTasks(baseUrl, TASKS);
+            load.run(baseUrl, ids, CLIENTS, WARMUP_REQUESTS_PER_CLIENT);
+            return load.run(baseUrl, ids, CLIENTS, MEASURED_REQUESTS_PER_CLIENT);
+        }
+    }
+}
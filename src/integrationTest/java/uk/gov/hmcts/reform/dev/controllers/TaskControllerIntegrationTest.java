@@ -1,13 +1,28 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.listener.SingleQueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,15 +32,39 @@ import org.springframework.boot.testcontainers.service.connection.ServiceConnect
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.reform.dev.models.BulkUpdateTaskStatusDTO;
 import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskSelectionDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskIdFilter;
+import uk.gov.hmcts.reform.dev.service.TaskStatistics;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import javax.sql.DataSource;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "task.sql-stats.enabled=true",
+    "task.sql-stats.row-counts=true",
+    "task.sql-stats.headers=true",
+    "task.id-filter.enabled=true",
+    // Reconciles straight after a bulk write, so it is over before a later test starts counting statements.
+    "task.stats.reconcile-debounce=PT0S"
+})
 @Testcontainers
 class TaskControllerIntegrationTest {
 
@@ -33,9 +72,50 @@ class TaskControllerIntegrationTest {
     @ServiceConnection
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie");
 
+    // Counts every JDBC statement across all threads, so it sees the ones run while serving requests.
+    private static final SingleQueryCountHolder STATEMENT_COUNTS = new SingleQueryCountHolder();
+    private static final String STATEMENT_COUNTS_PROXY = "statement-counts";
+    private static final Duration STATS_RECONCILE_TIMEOUT = Duration.ofSeconds(10);
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    // Wraps the application's own sql-stats proxy, but never itself.
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource proxy
+                        && STATEMENT_COUNTS_PROXY.equals(proxy.getDataSourceName()))) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                            .name(STATEMENT_COUNTS_PROXY)
+                            .countQuery(STATEMENT_COUNTS)
+                            .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskIdFilter taskIdFilter;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
     @LocalServerPort
     private int port;
 
@@ -46,6 +126,9 @@ class TaskControllerIntegrationTest {
         RestAssured.useRelaxedHTTPSValidation();
         // Make sure that there is no data in the database before the test runs
         taskRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        taskIdFilter.rebuild();
+        taskStatistics.reconcile();
     }
 
     @Test
@@ -54,10 +137,102 @@ class TaskControllerIntegrationTest {
         assertThat(postgres.isRunning()).isTrue();
     }
 
+    @Test
+    void schemaMigratedTest() {
+        List<String> versions = jdbcTemplate.queryForList(
+            "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+        assertThat(versions).containsExactly("1", "1.1", "1.2", "2", "3", "4", "5");
+
+        Long increment = jdbcTemplate.queryForObject(
+            "SELECT increment_by FROM pg_sequences WHERE sequencename = 'task_seq'", Long.class);
+        assertThat(increment).isEqualTo(Task.ID_ALLOCATION_SIZE);
+
+        // The overdue query only uses the partial index if its status condition matches the index's exactly.
+        String activeCodes = TaskStatus.active().stream()
+            .map(status -> String.valueOf(status.getCode()))
+            .collect(Collectors.joining(", "));
+        String indexDefinition = jdbcTemplate.queryForObject(
+            "SELECT indexdef FROM pg_indexes WHERE indexname = 'idx_task_active_due_datetime'", String.class);
+        assertThat(indexDefinition).endsWith("WHERE (status = ANY (ARRAY[" + activeCodes + "]))");
+        List<String> indexes = jdbcTemplate.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE tablename = 'task'", String.class);
+        assertThat(indexes).contains("idx_task_status_id", "idx_task_status_due_datetime", "idx_task_due_datetime",
+                                     "idx_task_search_vector");
+    }
+
+    @Test
+    void sqlStatsHeadersTest() {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response get = given().queryParam("id", savedTask.getId()).get("/getTask");
+        Assertions.assertEquals(200, get.statusCode());
+        Assertions.assertEquals(1, sqlStatements(get));
+        Assertions.assertEquals("1", get.header("X-Sql-Rows"));
+        Assertions.assertNotNull(get.header("X-Sql-Time-Ms"));
+
+        Response missing = given().queryParam("id", savedTask.getId() + 1000).get("/getTask");
+        Assertions.assertEquals(404, missing.statusCode());
+        Assertions.assertEquals(0, sqlStatements(missing));
+
+        Response update = given().queryParam("id", savedTask.getId())
+            .body(new UpdateTaskDTO("CLOSED"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus");
+        Assertions.assertEquals(200, update.statusCode());
+        Assertions.assertEquals(1, sqlStatements(update));
+
+        Response notModified = given().queryParam("id", savedTask.getId())
+            .header("If-None-Match", update.header("ETag"))
+            .get("/getTask");
+        Assertions.assertEquals(304, notModified.statusCode());
+        Assertions.assertEquals(1, sqlStatements(notModified));
+
+        Response delete = given().queryParam("id", savedTask.getId()).delete("/deleteTask");
+        Assertions.assertEquals(204, delete.statusCode());
+        Assertions.assertEquals(1, sqlStatements(delete));
+    }
+
+    @Test
+    void readinessFollowsDatabaseTest() {
+        Response response = given().get("/health/readiness");
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("UP", response.jsonPath().getString("status"));
+        Assertions.assertEquals("UP", response.jsonPath().getString("components.db.status"));
+    }
+
+    @Test
+    void cachesEndpointNotExposedTest() {
+        given().delete("/caches").then().statusCode(404);
+    }
+
+    @Test
+    void prometheusMetricsTest() {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        given().queryParam("id", savedTask.getId()).get("/getTask").then().statusCode(200);
+        given().queryParam("id", savedTask.getId() + 1000).get("/getTask").then().statusCode(404);
+        given().body(new CreateTaskDTO("", null, "OPEN", null))
+            .contentType(ContentType.JSON)
+            .post("/createTask")
+            .then()
+            .statusCode(400);
+
+        String metrics = given().get("/prometheus").then().statusCode(200).extract().asString();
+        assertThat(metrics)
+            .contains("http_server_requests_seconds_bucket{")
+            .containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/getTask\"")
+            .containsPattern("task_service_seconds_bucket\\{[^}]*method=\"getTaskById\"")
+            .containsPattern("task_service_failures_total\\{[^}]*exception=\"TaskNotFoundException\"")
+            .containsPattern("task_request_errors_total\\{[^}]*reason=\"validation\"")
+            .contains("hikaricp_connections_active")
+            .contains("hikaricp_connections_acquire_seconds_bucket")
+            .contains("hibernate_query_executions_total")
+            .contains("hibernate_flushes_total");
+    }
+
     @Test
     void getTaskByIdTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -67,7 +242,7 @@ class TaskControllerIntegrationTest {
         task.setStatus(createTaskDTO.getStatus());
         task.setDueDatetime(createTaskDTO.getDueDatetime());
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = save(task);
 
         Response response = given().queryParam("id", savedTask.getId())
             .contentType(ContentType.JSON)
@@ -85,6 +260,226 @@ class TaskControllerIntegrationTest {
         Assertions.assertEquals(createTaskDTO.getDueDatetime(), getTaskResponseObject.getDueDatetime());
     }
 
+    @Test
+    void getTaskByIdServedFromCacheTest() {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        STATEMENT_COUNTS.clear();
+        given().queryParam("id", savedTask.getId()).get("/getTask").then().statusCode(200);
+        Assertions.assertEquals(1, statementCount());
+
+        STATEMENT_COUNTS.clear();
+        Response cachedResponse = given().queryParam("id", savedTask.getId()).get("/getTask");
+        Assertions.assertEquals(200, cachedResponse.statusCode());
+        Assertions.assertEquals("OPEN", cachedResponse.jsonPath().getString("status"));
+        Assertions.assertEquals(0, statementCount());
+
+        given().queryParam("id", savedTask.getId())
+            .body(new UpdateTaskDTO("CLOSED"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus")
+            .then()
+            .statusCode(200);
+
+        STATEMENT_COUNTS.clear();
+        Response afterUpdate = given().queryParam("id", savedTask.getId()).get("/getTask");
+        Assertions.assertEquals("CLOSED", afterUpdate.jsonPath().getString("status"));
+        Assertions.assertEquals(0, statementCount());
+
+        given().queryParam("id", savedTask.getId()).delete("/deleteTask").then().statusCode(204);
+
+        Response afterDelete = given().queryParam("id", savedTask.getId()).get("/getTask");
+        Assertions.assertEquals(404, afterDelete.statusCode());
+    }
+
+    @Test
+    void getTaskByIdNotFoundSkipsDatabaseTest() {
+        STATEMENT_COUNTS.clear();
+        Response response = given().queryParam("id", 1L).get("/getTask");
+
+        Assertions.assertEquals(404, response.statusCode());
+        Assertions.assertEquals("Task not found with id: 1", response.jsonPath().getString("message"));
+        Assertions.assertEquals(0, statementCount());
+    }
+
+    @Test
+    void getTaskByIdFilterFollowsCreateAndDeleteTest() {
+        CreateTaskDTO createTaskDTO = new CreateTaskDTO(
+            "Task", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)
+        );
+        long id = given().body(createTaskDTO)
+            .contentType(ContentType.JSON)
+            .post("/createTask")
+            .then()
+            .statusCode(200)
+            .extract().jsonPath().getLong("id");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        given().queryParam("id", id).get("/getTask").then().statusCode(200);
+
+        given().queryParam("id", id).delete("/deleteTask").then().statusCode(204);
+
+        STATEMENT_COUNTS.clear();
+        given().queryParam("id", id).get("/getTask").then().statusCode(404);
+        Assertions.assertEquals(0, statementCount());
+    }
+
+    @Test
+    void getTaskByIdNotModifiedTest() {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        String etag = given().queryParam("id", savedTask.getId()).get("/getTask").then()
+            .statusCode(200)
+            .extract().header("ETag");
+        Assertions.assertNotNull(etag);
+
+        STATEMENT_COUNTS.clear();
+        Response notModified = given().queryParam("id", savedTask.getId())
+            .header("If-None-Match", etag)
+            .get("/getTask");
+        Assertions.assertEquals(304, notModified.statusCode());
+        Assertions.assertEquals("", notModified.asString());
+        Assertions.assertEquals(0, statementCount());
+
+        given().queryParam("id", savedTask.getId())
+            .body(new UpdateTaskDTO("CLOSED"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus")
+            .then()
+            .statusCode(200);
+
+        Response modified = given().queryParam("id", savedTask.getId())
+            .header("If-None-Match", etag)
+            .get("/getTask");
+        Assertions.assertEquals(200, modified.statusCode());
+        Assertions.assertEquals("CLOSED", modified.jsonPath().getString("status"));
+        Assertions.assertNotEquals(etag, modified.header("ETag"));
+    }
+
+    @Test
+    void getAllTasksNotModifiedTest() {
+        saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        Task second = saveTask("Task 2", "OPEN", LocalDateTime.of(2026, 2, 11, 0, 0, 0));
+        String etag = given().get("/getTasks").then().statusCode(200).extract().header("ETag");
+
+        STATEMENT_COUNTS.clear();
+        Response notModified = given().header("If-None-Match", etag).get("/getTasks");
+        Assertions.assertEquals(304, notModified.statusCode());
+        Assertions.assertEquals(1, statementCount());
+
+        given().queryParam("id", second.getId())
+            .body(new UpdateTaskDTO("CLOSED"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus")
+            .then()
+            .statusCode(200);
+        Response afterUpdate = given().header("If-None-Match", etag).get("/getTasks");
+        Assertions.assertEquals(200, afterUpdate.statusCode());
+        Assertions.assertNotEquals(etag, afterUpdate.header("ETag"));
+
+        saveTask("Task 3", "OPEN", LocalDateTime.of(2026, 2, 12, 0, 0, 0));
+        Response afterCreate = given().header("If-None-Match", afterUpdate.header("ETag")).get("/getTasks");
+        Assertions.assertEquals(200, afterCreate.statusCode());
+        Assertions.assertEquals(3, afterCreate.jsonPath().getList("tasks").size());
+    }
+
+    @Test
+    void getTaskByIdAsCborTest() throws IOException {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response response = given().queryParam("id", savedTask.getId())
+            .accept("application/cbor")
+            .get("/getTask");
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.contentType().startsWith("application/cbor"));
+        String etag = response.header("ETag");
+        Assertions.assertEquals("\"" + savedTask.getId() + "." + savedTask.getVersion() + "+cbor\"", etag);
+        Assertions.assertTrue(response.header("Vary").contains("Accept"));
+
+        JsonNode task = new ObjectMapper(new CBORFactory()).readTree(response.asByteArray());
+        Assertions.assertEquals(savedTask.getId(), task.get("id").asLong());
+        Assertions.assertEquals("Task", task.get("title").asText());
+        Assertions.assertEquals("OPEN", task.get("status").asText());
+
+        given().queryParam("id", savedTask.getId())
+            .accept("application/cbor")
+            .header("If-None-Match", etag)
+            .get("/getTask")
+            .then()
+            .statusCode(304);
+    }
+
+    @Test
+    void getTasksByIdsCompressedTest() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(saveTask("Task " + i, "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)).getId());
+        }
+
+        Response response = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header("Accept-Encoding", "gzip")
+            .body(ids)
+            .contentType(ContentType.JSON)
+            .post("/getTasksByIds");
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("gzip", response.header("Content-Encoding"));
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.asByteArray()))) {
+            JsonNode batch = new ObjectMapper().readTree(body);
+            Assertions.assertEquals(50, batch.get("tasks").size());
+        }
+    }
+
+    @Test
+    void getAllTasksCompressedTest() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            saveTask("Task " + i, "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        }
+
+        Response response = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header("Accept-Encoding", "gzip")
+            .get("/getTasks");
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("gzip", response.header("Content-Encoding"));
+        String etag = response.header("ETag");
+        Assertions.assertTrue(etag.startsWith("W/"));
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.asByteArray()))) {
+            Assertions.assertEquals(50, new ObjectMapper().readTree(body).get("tasks").size());
+        }
+        given().header("If-None-Match", etag).get("/getTasks").then().statusCode(304);
+    }
+
+    @Test
+    void updateTaskStatusIfMatchTest() {
+        Task savedTask = saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        String etag = given().queryParam("id", savedTask.getId()).get("/getTask").then()
+            .extract().header("ETag");
+
+        Response updated = given().queryParam("id", savedTask.getId())
+            .header("If-Match", etag)
+            .body(new UpdateTaskDTO("IN_PROGRESS"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus");
+        Assertions.assertEquals(200, updated.statusCode());
+        Assertions.assertNotEquals(etag, updated.header("ETag"));
+
+        STATEMENT_COUNTS.clear();
+        Response stale = given().queryParam("id", savedTask.getId())
+            .header("If-Match", etag)
+            .body(new UpdateTaskDTO("CLOSED"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus");
+        Assertions.assertEquals(412, stale.statusCode());
+        Assertions.assertEquals("Precondition Failed", stale.jsonPath().getString("error"));
+        // The conditional update matches nothing, then one lookup tells a stale version from a missing task.
+        Assertions.assertEquals(2, statementCount());
+        Assertions.assertEquals(
+            "IN_PROGRESS", taskRepository.findTaskById(savedTask.getId()).getStatus()
+        );
+    }
+
     @Test
     void getTaskByIdNotFoundTest() {
         Response response = given().queryParam("id", 1L)
@@ -101,10 +496,265 @@ class TaskControllerIntegrationTest {
         );
     }
 
+    @Test
+    void getTasksByIdsTest() {
+        Task first = saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        Task second = saveTask("Task 2", "OPEN", LocalDateTime.of(2026, 2, 11, 0, 0, 0));
+        long missingId = second.getId() + 1000;
+
+        STATEMENT_COUNTS.clear();
+        Response response = given().queryParam("ids", second.getId() + "," + missingId + "," + first.getId())
+            .when()
+            .get("/getTasksByIds")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(List.of("Task 2", "Task 1"), response.jsonPath().getList("tasks.title"));
+        Assertions.assertEquals(List.of(missingId), response.jsonPath().getList("missingIds", Long.class));
+        Assertions.assertEquals(1, statementCount());
+    }
+
+    @Test
+    void getTasksByIdsFromBodyTest() {
+        Task first = saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response response = given().body(List.of(first.getId()))
+            .contentType(ContentType.JSON)
+            .when()
+            .post("/getTasksByIds")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(List.of("Task 1"), response.jsonPath().getList("tasks.title"));
+        Assertions.assertEquals(List.of(), response.jsonPath().getList("missingIds"));
+    }
+
+    @Test
+    void getAllTasksPaginationTest() {
+        for (int i = 0; i < 5; i++) {
+            saveTask("Task " + i, i % 2 == 0 ? "OPEN" : "CLOSED", LocalDateTime.of(2026, 2, 10 + i, 0, 0, 0));
+        }
+
+        Response firstPage = given().queryParam("limit", 2)
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, firstPage.statusCode());
+        Assertions.assertEquals(List.of("Task 0", "Task 1"), firstPage.jsonPath().getList("tasks.title"));
+        String nextCursor = firstPage.jsonPath().getString("nextCursor");
+        Assertions.assertNotNull(nextCursor);
+
+        Response secondPage = given().queryParam("limit", 2)
+            .queryParam("after", nextCursor)
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(List.of("Task 2", "Task 3"), secondPage.jsonPath().getList("tasks.title"));
+
+        Response lastPage = given().queryParam("limit", 2)
+            .queryParam("after", secondPage.jsonPath().getString("nextCursor"))
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(List.of("Task 4"), lastPage.jsonPath().getList("tasks.title"));
+        Assertions.assertNull(lastPage.jsonPath().getString("nextCursor"));
+    }
+
+    @Test
+    void getAllTasksFilteredTest() {
+        for (int i = 0; i < 5; i++) {
+            saveTask("Task " + i, i % 2 == 0 ? "OPEN" : "CLOSED", LocalDateTime.of(2026, 2, 10 + i, 0, 0, 0));
+        }
+
+        Response response = given().queryParam("status", "OPEN")
+            .queryParam("dueFrom", "2026-02-11T00:00:00")
+            .queryParam("dueTo", "2026-02-14T00:00:00")
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(List.of("Task 2"), response.jsonPath().getList("tasks.title"));
+    }
+
+    @Test
+    void getAllTasksFilteredByStatusSetTest() {
+        saveTask("Open", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        saveTask("Pending", "PENDING", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        saveTask("Closed", "CLOSED", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response repeated = given().queryParam("status", "OPEN", "PENDING")
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+        Response commaSeparated = given().queryParam("status", "PENDING,CLOSED")
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(List.of("Open", "Pending"), repeated.jsonPath().getList("tasks.title"));
+        Assertions.assertEquals(List.of("Pending", "Closed"), commaSeparated.jsonPath().getList("tasks.title"));
+    }
+
+    @Test
+    void getAllTasksUnknownStatusTest() {
+        Response response = given().queryParam("status", "OPEN", "Unknown")
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void getOverdueTasksTest() {
+        LocalDateTime now = LocalDateTime.now();
+        Task overdue = saveTask("Overdue", "OPEN", now.minusDays(2));
+        Task overdueInProgress = saveTask("Overdue in progress", "IN_PROGRESS", now.minusDays(1));
+        saveTask("Done", "DONE", now.minusDays(2));
+        saveTask("Not due", "OPEN", now.plusDays(1));
+
+        Response firstPage = given().queryParam("limit", 1)
+            .when()
+            .get("/getOverdueTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, firstPage.statusCode());
+        Assertions.assertEquals(List.of(overdue.getId()), firstPage.jsonPath().getList("tasks.id", Long.class));
+
+        Response lastPage = given().queryParam("limit", 1)
+            .queryParam("after", firstPage.jsonPath().getString("nextCursor"))
+            .when()
+            .get("/getOverdueTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(
+            List.of(overdueInProgress.getId()), lastPage.jsonPath().getList("tasks.id", Long.class)
+        );
+        Assertions.assertNull(lastPage.jsonPath().getString("nextCursor"));
+    }
+
+    @Test
+    void getOverdueTasksNoneOverdueTest() {
+        saveTask("Done", "DONE", LocalDateTime.now().minusDays(1));
+
+        Response response = given().when()
+            .get("/getOverdueTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(404, response.statusCode());
+        Assertions.assertEquals("No tasks are overdue.", response.jsonPath().getString("message"));
+    }
+
+    @Test
+    void searchTasksTest() {
+        Task inDescription = saveTask("Hearing", "Prepare the bundles for the hearing", "OPEN");
+        Task inTitle = saveTask("Prepare bundle", "For Tuesday", "OPEN");
+        saveTask("Listing", "Book a courtroom", "OPEN");
+
+        Response firstPage = given().queryParam("q", "prepared bundles").queryParam("limit", 1)
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, firstPage.statusCode());
+        Assertions.assertEquals(List.of(inTitle.getId()), firstPage.jsonPath().getList("tasks.id", Long.class));
+
+        Response lastPage = given().queryParam("q", "prepared bundles").queryParam("limit", 1)
+            .queryParam("after", firstPage.jsonPath().getString("nextCursor"))
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(
+            List.of(inDescription.getId()), lastPage.jsonPath().getList("tasks.id", Long.class)
+        );
+        Assertions.assertNull(lastPage.jsonPath().getString("nextCursor"));
+    }
+
+    @Test
+    void searchTasksSeesUpdatesTest() {
+        Task task = saveTask("Hearing", "Prepare the bundles", "OPEN");
+        task.setTitle("Listing");
+        task.setDescription("Book a courtroom");
+        taskRepository.save(task);
+
+        Response response = given().queryParam("q", "bundle")
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(404, response.statusCode());
+        Assertions.assertEquals("No tasks match the search.", response.jsonPath().getString("message"));
+    }
+
+    @Test
+    void searchTasksBlankQueryTest() {
+        Response response = given().queryParam("q", " ")
+            .when()
+            .get("/searchTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void getAllTasksInvalidCursorTest() {
+        saveTask("Task", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response response = given().queryParam("after", "not-a-cursor")
+            .when()
+            .get("/getTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(400, response.statusCode());
+        Assertions.assertEquals("Invalid cursor: not-a-cursor", response.jsonPath().getString("message"));
+    }
+
+    @Test
+    void exportTasksTest() {
+        for (int i = 0; i < 3; i++) {
+            saveTask("Task " + i, "OPEN", LocalDateTime.of(2026, 2, 10 + i, 0, 0, 0));
+        }
+
+        Response response = given()
+            .when()
+            .get("/exportTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+        String[] lines = response.asString().split("\n");
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertEquals("Task 0", JsonPath.from(lines[0]).getString("title"));
+        Assertions.assertEquals("Task 2", JsonPath.from(lines[2]).getString("title"));
+    }
+
     @Test
     void createTaskTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -124,10 +774,83 @@ class TaskControllerIntegrationTest {
         Assertions.assertEquals(createTaskDTO.getDueDatetime(), getTaskResponseObject.getDueDatetime());
     }
 
+    @Test
+    void getTaskStatsTest() {
+        LocalDateTime now = LocalDateTime.now();
+        saveTask("Closed", "CLOSED", now.minusDays(3));
+        taskStatistics.reconcile();
+        TaskDTO overdue = given().body(new CreateTaskDTO("Overdue", "desc", "OPEN", now.minusDays(2)))
+            .contentType(ContentType.JSON)
+            .post("/createTask")
+            .as(TaskDTO.class);
+        given().body(new CreateTaskDTO("Later", "desc", "PENDING", now.plusDays(30)))
+            .contentType(ContentType.JSON)
+            .post("/createTask")
+            .then().statusCode(200);
+        given().queryParam("id", overdue.getId())
+            .body(new UpdateTaskDTO("IN_PROGRESS"))
+            .contentType(ContentType.JSON)
+            .put("/updateTaskStatus")
+            .then().statusCode(200);
+
+        STATEMENT_COUNTS.clear();
+        Response response = given().get("/getTaskStats");
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(3, response.jsonPath().getInt("total"));
+        Assertions.assertEquals(0, response.jsonPath().getInt("byStatus.OPEN"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("byStatus.IN_PROGRESS"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("byStatus.PENDING"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("byStatus.CLOSED"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("byDueDate.overdue"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("byDueDate.later"));
+        Assertions.assertEquals(0, statementCount());
+    }
+
+    @Test
+    void scheduledJobsDontQueueBehindEachOtherTest() throws InterruptedException {
+        CountDownLatch longJobRunning = new CountDownLatch(1);
+        CountDownLatch releaseLongJob = new CountDownLatch(1);
+        CountDownLatch laterJobRan = new CountDownLatch(1);
+        // Stands in for a long id filter scan, which a snapshot rebuild mustn't have to wait for.
+        taskScheduler.schedule(() -> {
+            longJobRunning.countDown();
+            try {
+                releaseLongJob.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        try {
+            Assertions.assertTrue(longJobRunning.await(5, TimeUnit.SECONDS));
+            taskScheduler.schedule(laterJobRan::countDown, Instant.now());
+            Assertions.assertTrue(laterJobRan.await(5, TimeUnit.SECONDS));
+        } finally {
+            releaseLongJob.countDown();
+        }
+    }
+
+    @Test
+    void getTaskStatsAfterBulkDeleteTest() throws InterruptedException {
+        saveTask("Done", "DONE", LocalDateTime.now().minusDays(1));
+        saveTask("Open", "OPEN", LocalDateTime.now().minusDays(1));
+        taskStatistics.reconcile();
+
+        given().body(new TaskSelectionDTO(null, "DONE", null, null))
+            .contentType(ContentType.JSON)
+            .delete("/deleteTasks")
+            .then().statusCode(200);
+
+        // The counters are reconciled on the task scheduler shortly after the delete, not by the request.
+        Response response = awaitTaskStats(stats -> stats.jsonPath().getInt("total") == 1);
+        Assertions.assertEquals(1, response.jsonPath().getInt("total"));
+        Assertions.assertEquals(0, response.jsonPath().getInt("byStatus.DONE"));
+    }
+
     @Test
     void createTaskParamValidationTitleTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            null, "desc", "status",
+            null, "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -152,10 +875,97 @@ class TaskControllerIntegrationTest {
         );
     }
 
+    @Test
+    void createTasksTest() {
+        List<CreateTaskDTO> createTaskDTOs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            createTaskDTOs.add(new CreateTaskDTO(
+                "Task " + i, "desc", "OPEN",
+                LocalDateTime.of(2026, 2, 10, 0, 0, 0)
+            ));
+        }
+        createTaskDTOs.add(new CreateTaskDTO("Task", "desc", null, LocalDateTime.of(2026, 2, 10, 0, 0, 0)));
+
+        Response response = given().body(createTaskDTOs)
+            .contentType(ContentType.JSON)
+            .when()
+            .post("/createTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(120, response.jsonPath().getList("created").size());
+        Assertions.assertEquals(120, response.jsonPath().getInt("errors[0].index"));
+        Assertions.assertEquals(
+            "Status is a mandatory field.",
+            response.jsonPath().getString("errors[0].validationErrors.status")
+        );
+        Assertions.assertEquals(120, taskRepository.count());
+        assertThat(response.jsonPath().getList("created.id", Long.class)).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void importTasksCsvTest() {
+        StringBuilder csv = new StringBuilder("title,description,status,dueDatetime\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append("Task ").append(i).append(",\"desc, \"\"quoted\"\"\",OPEN,2026-02-10T00:00:00\n");
+        }
+        csv.append("Missing due date,desc,OPEN,\n");
+
+        Response response = given().body(csv.toString())
+            .contentType("text/csv")
+            .when()
+            .post("/importTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(120, response.jsonPath().getLong("accepted"));
+        Assertions.assertEquals(1, response.jsonPath().getLong("rejected"));
+        Assertions.assertEquals(120, response.jsonPath().getInt("errors[0].index"));
+        Assertions.assertEquals(120, taskRepository.count());
+        Assertions.assertEquals(
+            "desc, \"quoted\"",
+            taskRepository.findAll().get(0).getDescription()
+        );
+    }
+
+    @Test
+    void importTasksNdjsonThenCreateTaskTest() {
+        String ndjson = "{\"title\":\"Imported\",\"status\":\"OPEN\",\"dueDatetime\":\"2026-02-10T00:00:00\"}\n"
+            + "{\"title\":\"Imported\",\"dueDatetime\":\"2026-02-10T00:00:00\"}\n";
+
+        Response response = given().body(ndjson)
+            .contentType("application/x-ndjson")
+            .when()
+            .post("/importTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(1, response.jsonPath().getLong("accepted"));
+        Assertions.assertEquals(1, response.jsonPath().getLong("rejected"));
+
+        // Ids reserved for the import must not collide with ones Hibernate hands out afterwards.
+        CreateTaskDTO createTaskDTO = new CreateTaskDTO(
+            "Created", "desc", "OPEN",
+            LocalDateTime.of(2026, 2, 10, 0, 0, 0)
+        );
+        Response createResponse = given().body(createTaskDTO)
+            .contentType(ContentType.JSON)
+            .when()
+            .post("/createTask")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, createResponse.statusCode());
+        Assertions.assertEquals(2, taskRepository.count());
+    }
+
     @Test
     void updateTaskStatusTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -165,10 +975,11 @@ class TaskControllerIntegrationTest {
         task.setStatus(createTaskDTO.getStatus());
         task.setDueDatetime(createTaskDTO.getDueDatetime());
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = save(task);
 
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("Updated Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
 
+        STATEMENT_COUNTS.clear();
         Response response = given()
             .queryParam("id", savedTask.getId())
             .body(updateTaskDTO)
@@ -179,13 +990,20 @@ class TaskControllerIntegrationTest {
             .extract().response();
 
         Assertions.assertEquals(200, response.statusCode());
-        Assertions.assertEquals(updateTaskDTO.getStatus(), response.as(TaskDTO.class).getStatus());
+        TaskDTO updatedTask = response.as(TaskDTO.class);
+        Assertions.assertEquals(updateTaskDTO.getStatus(), updatedTask.getStatus());
+        Assertions.assertEquals(savedTask.getId(), updatedTask.getId());
+        Assertions.assertEquals(createTaskDTO.getTitle(), updatedTask.getTitle());
+        Assertions.assertEquals(createTaskDTO.getDueDatetime(), updatedTask.getDueDatetime());
+        Assertions.assertEquals(1, statementCount());
+        Assertions.assertEquals(1, updateCount());
     }
 
     @Test
     void updateTaskStatusTaskDoesNotExistTest() {
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("Updated Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
 
+        STATEMENT_COUNTS.clear();
         Response response = given()
             .queryParam("id", 1L)
             .body(updateTaskDTO)
@@ -200,12 +1018,99 @@ class TaskControllerIntegrationTest {
             "Task not found with id: 1",
             response.jsonPath().getMap("$").get("message")
         );
+        Assertions.assertEquals(1, statementCount());
+    }
+
+    @Test
+    void updateTasksStatusByIdsTest() {
+        Task first = saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        Task second = saveTask("Task 2", "OPEN", LocalDateTime.of(2026, 2, 11, 0, 0, 0));
+        Task untouched = saveTask("Task 3", "OPEN", LocalDateTime.of(2026, 2, 12, 0, 0, 0));
+        long missingId = untouched.getId() + 1000;
+
+        BulkUpdateTaskStatusDTO bulkUpdateTaskStatusDTO = new BulkUpdateTaskStatusDTO(
+            new TaskSelectionDTO(List.of(first.getId(), second.getId(), missingId), null, null, null),
+            "CLOSED"
+        );
+        Response response = given().body(bulkUpdateTaskStatusDTO)
+            .contentType(ContentType.JSON)
+            .when()
+            .put("/updateTasksStatus")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(2, response.jsonPath().getInt("affected"));
+        Assertions.assertEquals(
+            List.of(first.getId(), second.getId()),
+            response.jsonPath().getList("matchedIds", Long.class)
+        );
+        Assertions.assertEquals(List.of(missingId), response.jsonPath().getList("missingIds", Long.class));
+        Assertions.assertEquals("CLOSED", taskRepository.findTaskById(first.getId()).getStatus());
+        Assertions.assertEquals("OPEN", taskRepository.findTaskById(untouched.getId()).getStatus());
+    }
+
+    @Test
+    void updateTasksStatusByFilterTest() {
+        Task updated = saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        saveTask("Task 2", "OPEN", LocalDateTime.of(2026, 2, 20, 0, 0, 0));
+        saveTask("Task 3", "PENDING", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        BulkUpdateTaskStatusDTO bulkUpdateTaskStatusDTO = new BulkUpdateTaskStatusDTO(
+            new TaskSelectionDTO(null, "OPEN", null, LocalDateTime.of(2026, 2, 15, 0, 0, 0)),
+            "CLOSED"
+        );
+        Response response = given().body(bulkUpdateTaskStatusDTO)
+            .contentType(ContentType.JSON)
+            .when()
+            .put("/updateTasksStatus")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(1, response.jsonPath().getInt("affected"));
+        Task afterUpdate = taskRepository.findTaskById(updated.getId());
+        Assertions.assertEquals("CLOSED", afterUpdate.getStatus());
+        Assertions.assertEquals(updated.getVersion() + 1, afterUpdate.getVersion());
+    }
+
+    @Test
+    void deleteTasksByIdsTest() {
+        Task first = saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        Task kept = saveTask("Task 2", "OPEN", LocalDateTime.of(2026, 2, 11, 0, 0, 0));
+
+        Response response = given().body(new TaskSelectionDTO(List.of(first.getId()), null, null, null))
+            .contentType(ContentType.JSON)
+            .when()
+            .delete("/deleteTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(1, response.jsonPath().getInt("affected"));
+        Assertions.assertNull(taskRepository.findTaskById(first.getId()));
+        Assertions.assertNotNull(taskRepository.findTaskById(kept.getId()));
+    }
+
+    @Test
+    void deleteTasksEmptySelectionTest() {
+        saveTask("Task 1", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+
+        Response response = given().body(new TaskSelectionDTO(null, null, null, null))
+            .contentType(ContentType.JSON)
+            .when()
+            .delete("/deleteTasks")
+            .then()
+            .extract().response();
+
+        Assertions.assertEquals(400, response.statusCode());
+        Assertions.assertEquals(1, taskRepository.count());
     }
 
     @Test
     void deleteTaskTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
-            "Test Task", "desc", "status",
+            "Test Task", "desc", "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
 
@@ -215,8 +1120,9 @@ class TaskControllerIntegrationTest {
         task.setStatus(createTaskDTO.getStatus());
         task.setDueDatetime(createTaskDTO.getDueDatetime());
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = save(task);
 
+        STATEMENT_COUNTS.clear();
         Response response = given()
             .queryParam("id", savedTask.getId())
             .contentType(ContentType.JSON)
@@ -226,6 +1132,8 @@ class TaskControllerIntegrationTest {
             .extract().response();
 
         Assertions.assertEquals(204, response.statusCode());
+        Assertions.assertEquals(1, statementCount());
+        Assertions.assertEquals(1, deleteCount());
 
         Task deletedTask = taskRepository.findTaskById(savedTask.getId());
         Assertions.assertNull(deletedTask);
@@ -233,6 +1141,7 @@ class TaskControllerIntegrationTest {
 
     @Test
     void deleteTaskTaskDoesNotExistTest() {
+        STATEMENT_COUNTS.clear();
         Response response = given()
             .queryParam("id", 1L)
             .contentType(ContentType.JSON)
@@ -246,5 +1155,57 @@ class TaskControllerIntegrationTest {
             "Task not found with id: 1",
             response.jsonPath().getMap("$").get("message")
         );
+        Assertions.assertEquals(1, statementCount());
+    }
+
+    private Task saveTask(String title, String status, LocalDateTime dueDatetime) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(status);
+        task.setDueDatetime(dueDatetime);
+        return save(task);
+    }
+
+    private Task saveTask(String title, String description, String status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setDueDatetime(LocalDateTime.of(2026, 2, 10, 0, 0, 0));
+        return save(task);
+    }
+
+    private Task save(Task task) {
+        // Rows written straight to the repository bypass the service, so the id filter has to be told about them.
+        Task savedTask = taskRepository.save(task);
+        taskIdFilter.add(savedTask.getId());
+        return savedTask;
+    }
+
+    private static Response awaitTaskStats(Predicate<Response> reconciled) throws InterruptedException {
+        long deadline = System.nanoTime() + STATS_RECONCILE_TIMEOUT.toNanos();
+        Response response = given().get("/getTaskStats");
+        while (!reconciled.test(response) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            response = given().get("/getTaskStats");
+        }
+        return response;
+    }
+
+    private static int sqlStatements(Response response) {
+        return Integer.parseInt(response.header("X-Sql-Statements"));
+    }
+
+    private static int statementCount() {
+        return STATEMENT_COUNTS.getQueryCountMap().values().stream().mapToInt(QueryCount::getTotal).sum();
+    }
+
+    private static int updateCount() {
+        return STATEMENT_COUNTS.getQueryCountMap().values().stream().mapToInt(QueryCount::getUpdate).sum();
+    }
+
+    private static int deleteCount() {
+        return STATEMENT_COUNTS.getQueryCountMap().values().stream().mapToInt(QueryCount::getDelete).sum();
     }
 }
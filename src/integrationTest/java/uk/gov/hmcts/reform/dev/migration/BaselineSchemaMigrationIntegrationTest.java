@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.migration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application against a database Hibernate created before the migrations existed, which Flyway adopts
+ * at version 0 and migrates. The context only starts if Hibernate's schema validation then passes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class BaselineSchemaMigrationIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14.20-trixie")
+        .withInitScript("db/hibernate-baseline.sql");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    @Test
+    void baselineSchemaMigratedTest() {
+        List<String> versions = jdbcTemplate.queryForList(
+            "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+        assertThat(versions).containsExactly("0", "1", "1.1", "1.2", "2", "3", "4", "5");
+
+        List<String> columnTypes = jdbcTemplate.queryForList(
+            "SELECT column_name || ' ' || data_type FROM information_schema.columns"
+                + " WHERE table_name = 'task' AND column_name IN ('status', 'version') ORDER BY column_name",
+            String.class);
+        assertThat(columnTypes).containsExactly("status smallint", "version bigint");
+    }
+
+    @Test
+    void existingTasksReadableTest() {
+        for (TaskStatus status : TaskStatus.values()) {
+            long id = status.getCode() + 1;
+            Response response = given().queryParam("id", id).get("/getTask");
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals(status.name(), response.jsonPath().getString("status"));
+            Assertions.assertEquals("\"" + id + ".0\"", response.header("ETag"));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- The schema Hibernate's ddl-auto created before the migrations existed: statuses stored by name and no version
+-- column. Seeded with a task of each status.
+CREATE SEQUENCE task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE task (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status VARCHAR(255),
+    due_datetime TIMESTAMP(6)
+);
+
+INSERT INTO task (id, title, description, status, due_datetime) VALUES
+    (1, 'Open task', 'desc', 'OPEN', '2026-02-10 09:00:00'),
+    (2, 'In progress task', 'desc', 'IN_PROGRESS', '2026-02-11 09:00:00'),
+    (3, 'Pending task', 'desc', 'PENDING', '2026-02-12 09:00:00'),
+    (4, 'Done task', 'desc', 'DONE', '2026-02-13 09:00:00'),
+    (5, 'Closed task', 'desc', 'CLOSED', '2026-02-14 09:00:00');
+
+SELECT setval('task_seq', 51);
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.handler.RestResponseExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.ErrorResponseDTO;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the error bodies RestResponseExceptionHandler returns for a missing task, a bad request and a create
+ * request that fails validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private final RestResponseExceptionHandler handler = new RestResponseExceptionHandler(new SimpleMeterRegistry());
+
+    private TaskNotFoundException notFound;
+    private InvalidRequestException invalidRequest;
+    private MethodArgumentNotValidException notValid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        notFound = new TaskNotFoundException(42L);
+        invalidRequest = new InvalidRequestException("limit must be between 1 and 1000.");
+
+        CreateTaskDTO createTask = new CreateTaskDTO("", null, "UNKNOWN", null);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(createTask, "createTaskDTO");
+        bindingResult.addError(new FieldError("createTaskDTO", "title", "Title is a mandatory field."));
+        bindingResult.addError(new FieldError("createTaskDTO", "status", "Status must be one of the statuses."));
+        bindingResult.addError(new FieldError("createTaskDTO", "dueDatetime", "Due Date is a mandatory field."));
+        MethodParameter parameter = new MethodParameter(
+            ErrorResponseBenchmark.class.getDeclaredMethod("createTask", CreateTaskDTO.class), 0
+        );
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    // Stands in for the controller method whose argument failed validation.
+    @SuppressWarnings("unused")
+    private void createTask(CreateTaskDTO createTaskDTO) {
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> notFound() {
+        return handler.handleNotFound(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> invalidRequest() {
+        return handler.handleInvalidRequest(invalidRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validationErrors() {
+        return handler.handleValidationExceptions(notValid);
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a task entity to its DTO, JSON encoding and decoding of a task, and bean validation of a create
+ * request, each for a single task. Encoding is measured with TaskJsonSerializer, which the service uses, and
+ * with Jackson's reflective bean serializer as the baseline, for one task and for a full page of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskModelBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveTaskDTO {
+    }
+
+    private Task task;
+    private TaskDTO taskDTO;
+    private TaskPageDTO page;
+    private byte[] taskJson;
+    private CreateTaskDTO validCreateTask;
+    private CreateTaskDTO invalidCreateTask;
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveObjectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime due = LocalDateTime.of(2026, 2, 10, 9, 30, 0);
+        task = new Task(42L, "Review the bundle", "Check every exhibit is paginated", "OPEN", due, 3L);
+        taskDTO = task.toDTO();
+        // The same date handling as the service's own JSON.
+        objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        reflectiveObjectMapper = objectMapper.copy().addMixIn(TaskDTO.class, ReflectiveTaskDTO.class);
+        List<TaskDTO> tasks = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(new TaskDTO((long) i + 1, "Task " + i, "Description of task " + i, "OPEN",
+                                  due.plusMinutes(i), 0L));
+        }
+        page = new TaskPageDTO(tasks, "aWQ6NQ");
+        taskJson = objectMapper.writeValueAsBytes(taskDTO);
+        validCreateTask = new CreateTaskDTO("Review the bundle", "Check every exhibit", "OPEN", due);
+        invalidCreateTask = new CreateTaskDTO("", null, "UNKNOWN", null);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public TaskDTO toDTO() {
+        return task.toDTO();
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(taskDTO);
+    }
+
+    @Benchmark
+    public byte[] encodeJsonReflective() throws IOException {
+        return reflectiveObjectMapper.writeValueAsBytes(taskDTO);
+    }
+
+    @Benchmark
+    public byte[] encodePageJson() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodePageJsonReflective() throws IOException {
+        return reflectiveObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public TaskDTO decodeJson() throws IOException {
+        return objectMapper.readValue(taskJson, TaskDTO.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskDTO>> validateValidTask() {
+        return validator.validate(validCreateTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskDTO>> validateInvalidTask() {
+        return validator.validate(invalidCreateTask);
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.BulkCreateResultDTO;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.service.TaskManagementService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskManagementService reads and writes against an in-memory H2 database seeded with 1,000 tasks. The task
+ * cache is off, so every call reaches the repository. H2 runs in-process, so this measures the service, JPA and
+ * JDBC overhead rather than database round trips; the Postgres numbers come from ./gradlew benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private static final int TASKS = 1000;
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "PENDING"};
+
+    private ConfigurableApplicationContext context;
+    private TaskManagementService taskManagementService;
+    private List<Long> ids;
+    private CreateTaskDTO createTask;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class).run(
+            "--server.port=0",
+            "--spring.cache.type=none",
+            "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--logging.level.root=WARN"
+        );
+        taskManagementService = context.getBean(TaskManagementService.class);
+
+        LocalDateTime due = LocalDateTime.of(2026, 2, 10, 9, 30, 0);
+        List<CreateTaskDTO> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new CreateTaskDTO("Task " + i, "Description of task " + i, "OPEN", due.plusHours(i)));
+        }
+        BulkCreateResultDTO created = taskManagementService.createTasks(tasks);
+        ids = created.getCreated().stream().map(TaskDTO::getId).toList();
+        createTask = new CreateTaskDTO("New task", "Created by the benchmark", "OPEN", due);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO getTaskById() {
+        return taskManagementService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public TaskPageDTO getFirstPage() {
+        return taskManagementService.getAllTasks(new TaskQueryDTO());
+    }
+
+    @Benchmark
+    public TaskDTO createTask() {
+        return taskManagementService.createTask(createTask);
+    }
+
+    @Benchmark
+    public TaskDTO updateTaskStatus() {
+        String status = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+        return taskManagementService.updateTask(randomId(), new UpdateTaskDTO(status), null);
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Turns on Spring's cache abstraction. The cache provider, size and TTL come from spring.cache.* in
+ * application.yaml; set TASK_CACHE_TYPE=none to switch caching off for an environment.
+ *
+ * <p>The cache advice is ordered just ahead of the transaction advice, which Spring Boot leaves at the lowest
+ * precedence, so it wraps the transaction: @CachePut and @CacheEvict on a @Transactional method only run once
+ * it has committed, and a concurrent read can't put the state from before the commit back in the cache.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.configuration;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import uk.gov.hmcts.reform.dev.filters.SqlStatsFilter;
+import uk.gov.hmcts.reform.dev.repository.SqlStatsListener;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Routes the DataSource through datasource-proxy so the SQL each request runs can be counted and checked against
+ * the task.sql-stats budgets. Without task.sql-stats.enabled the DataSource is left unwrapped.
+ *
+ * <p>Rows read are only counted with task.sql-stats.row-counts on as well, since that means proxying every
+ * result set and listening to every JDBC call, not just each statement.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.sql-stats.enabled", havingValue = "true")
+public class SqlStatsConfig {
+
+    public static final String PROXY_NAME = "sql-stats";
+
+    @Bean
+    static BeanPostProcessor sqlStatsDataSourcePostProcessor(
+        @Value("${task.sql-stats.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold,
+        @Value("${task.sql-stats.row-counts:false}") boolean rowCounts) {
+        SqlStatsListener listener = new SqlStatsListener(slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(PROXY_NAME)
+                        .listener(listener);
+                    if (rowCounts) {
+                        builder.methodListener(listener).proxyResultSet();
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+        @Value("${task.sql-stats.headers:false}") boolean headers,
+        @Value("${task.sql-stats.statement-budget:20}") int statementBudget,
+        @Value("${task.sql-stats.jdbc-time-budget:PT0.5S}") Duration jdbcTimeBudget,
+        @Value("${task.sql-stats.repeated-statement-budget:5}") int repeatedStatementBudget) {
+        FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatsFilter(headers, statementBudget, jdbcTimeBudget, repeatedStatementBudget)
+        );
+        // Inside the concurrency limit, so a request held back there doesn't start counting until it is let in.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
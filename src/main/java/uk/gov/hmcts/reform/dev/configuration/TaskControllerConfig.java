@@ -1,14 +1,25 @@
 package uk.gov.hmcts.reform.dev.configuration;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @Configuration
 public class TaskControllerConfig {
 
     @Bean
+    @ConditionalOnWebApplication(type = SERVLET)
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
             @Override
@@ -21,4 +32,45 @@ public class TaskControllerConfig {
             }
         };
     }
+
+    /**
+     * Serves the JSON model as CBOR when a client asks for application/cbor. Built from Boot's builder so dates and
+     * other Jackson settings match the JSON responses.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = SERVLET)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Serves the JSON model as Smile when a client asks for application/x-jackson-smile.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = SERVLET)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Kept in its own class so the servlet jar, which has no WebFlux on its classpath, never loads WebFluxConfigurer.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = REACTIVE)
+    static class ReactiveCorsConfig {
+
+        @Bean
+        public WebFluxConfigurer reactiveCorsConfigurer() {
+            return new WebFluxConfigurer() {
+                @Override
+                public void addCorsMappings(org.springframework.web.reactive.config.CorsRegistry registry) {
+                    registry.addMapping("/**")
+                        .allowedOrigins("http://localhost")
+                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                        .allowedHeaders("*")
+                        .allowCredentials(true);
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.dev.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import uk.gov.hmcts.reform.dev.filters.ConcurrencyLimitFilter;
+
+import java.time.Duration;
+
+/**
+ * Only applies with spring.threads.virtual.enabled, when Spring Boot runs Tomcat requests, the async executor
+ * used by streamed responses and @Scheduled jobs on virtual threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class VirtualThreadConfig {
+
+    /**
+     * The cap on requests in flight, or when that is left at 0, a multiple of the connection pool size, which is
+     * what the requests are really queuing for.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+        @Value("${task.concurrency.max-in-flight:0}") int maxInFlight,
+        @Value("${task.concurrency.in-flight-per-connection:4}") int inFlightPerConnection,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+        @Value("${task.concurrency.acquire-timeout:PT5S}") Duration acquireTimeout,
+        ObjectMapper objectMapper) {
+        int limit = maxInFlight > 0 ? maxInFlight : inFlightPerConnection * poolSize;
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(limit, acquireTimeout, objectMapper)
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Shortens how long a request waits for a connection. On platform threads Tomcat's pool already limits how
+     * many can be waiting, so Hikari's default is left alone there.
+     */
+    @Bean
+    static BeanPostProcessor connectionTimeoutPostProcessor(
+        @Value("${task.concurrency.connection-timeout:PT5S}") Duration connectionTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.service.ReactiveTaskManagementService;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+
+/**
+ * The task API on WebFlux, served instead of TaskController when the reactive profile is active. Request and
+ * response bodies, validation and errors match the servlet endpoints. A GET with If-None-Match holding the
+ * returned ETag gets a 304, which WebFlux works out from the ETag on the response entity.
+ */
+@RestController
+@Profile("reactive")
+@Tag(name = "Tasks", description = "Contains REST endpoints that support viewing tasks, creating new tasks, "
+    + "updating the status of a task and deleting tasks.")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskManagementService taskManagementService;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskController.class);
+
+    public ReactiveTaskController(ReactiveTaskManagementService taskManagementService) {
+        this.taskManagementService = taskManagementService;
+    }
+
+    @GetMapping(value = "/", produces = "application/json")
+    public ResponseEntity<String> root() {
+        return ResponseEntity.ok("Api is online and available.");
+    }
+
+    @Operation(
+        summary = "Retrieve a task by ID",
+        description = "Returns a single task object with its ETag. Returns 404 if the task does not exist."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Task not modified", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+    })
+    @GetMapping(value = "/getTask", produces = "application/json")
+    public Mono<ResponseEntity<TaskDTO>> getTaskById(@RequestParam Long id) {
+        return taskManagementService.getTaskById(id)
+            .map(task -> ResponseEntity.ok().eTag(TaskETags.forTask(task)).body(task));
+    }
+
+    @Operation(
+        summary = "Retrieve a page of tasks, optionally filtered by status and due date.",
+        description = "Returns a page of task objects ordered by ID, with the page's ETag. Pass the returned"
+            + " nextCursor as the after parameter to fetch the following page; nextCursor is null on the last page."
+            + " Returns 404 if no tasks exist. Returns 400 if the cursor or limit is invalid."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Page not modified", content = @Content),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content),
+        @ApiResponse(responseCode = "404", description = "No Tasks not found", content = @Content)
+    })
+    @GetMapping(value = "/getTasks", produces = "application/json")
+    public Mono<ResponseEntity<TaskPageDTO>> getAllTasks(@ParameterObject TaskQueryDTO query) {
+        return taskManagementService.getAllTasks(query)
+            .map(page -> ResponseEntity.ok().eTag(TaskETags.forPage(page)).body(page));
+    }
+
+    @Operation(
+        summary = "Stream tasks as newline-delimited JSON, optionally filtered by status and due date.",
+        description = "Selected with Accept: application/x-ndjson. Emits every matching task after the cursor, or"
+            + " the first limit of them, one JSON object per line in ID order. Rows are read from the database only"
+            + " as fast as the client consumes them."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content)
+    })
+    @GetMapping(value = "/getTasks", produces = "application/x-ndjson")
+    public Flux<TaskDTO> streamTasks(@ParameterObject TaskQueryDTO query) {
+        return taskManagementService.streamTasks(query);
+    }
+
+    @Operation(
+        summary = "Update the status of a task given the ID and a request body containing the new status.",
+        description = "Returns a single task object. This returned task will be the complete new object."
+            + " If If-Match holds an ETag of the task, the update only applies if the task is unchanged since."
+            + " Returns 404 if the task does not exist. Returns 412 if the task has changed."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+        @ApiResponse(responseCode = "412", description = "Task changed since If-Match", content = @Content)
+    })
+    @PutMapping(value = "/updateTaskStatus", produces = "application/json")
+    public Mono<ResponseEntity<TaskDTO>> updateTaskStatus(@RequestParam Long id,
+                                                          @RequestBody UpdateTaskDTO updateTaskDTO,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH,
+                                                              required = false) String ifMatch) {
+        return Mono.defer(() -> taskManagementService.updateTask(
+                id, updateTaskDTO, TaskETags.expectedVersion(ifMatch, id)
+            ))
+            .map(task -> ResponseEntity.ok().eTag(TaskETags.forTask(task)).body(task));
+    }
+
+    @Operation(
+        summary = "Delete a task given the ID.",
+        description = "Returns a 204 no content confirming that the task was successfully deleted."
+            + " Returns 404 if the task does not exist."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+    })
+    @DeleteMapping(value = "/deleteTask", produces = "application/json")
+    public Mono<ResponseEntity<TaskDTO>> deleteTask(@RequestParam Long id) {
+        return taskManagementService.deleteTask(id)
+            .map(task -> ResponseEntity.noContent().build());
+    }
+
+    @Operation(
+        summary = "Create a new task with the content supplied in the request body.",
+        description = "Returns the newly created Task."
+            + " Returns 400 if a validation failure has occurred (With the details of why it failed)."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Successfully retrieved")
+    })
+    @PostMapping(value = "/createTask", produces = "application/json")
+    public Mono<ResponseEntity<TaskDTO>> createTask(@Valid @RequestBody CreateTaskDTO createTaskDTO) {
+        logger.info("Request to create new task: " + createTaskDTO);
+        return taskManagementService.createTask(createTaskDTO).map(ResponseEntity::ok);
+    }
+}
@@ -5,9 +5,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -15,15 +20,37 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.models.BulkCreateResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkOperationResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkUpdateTaskStatusDTO;
 import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskBatchDTO;
 import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskImportResultDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.TaskSelectionDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatsDTO;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+import uk.gov.hmcts.reform.dev.service.TaskImportFormat;
 import uk.gov.hmcts.reform.dev.service.TaskManagementService;
+import uk.gov.hmcts.reform.dev.service.TaskPageSnapshot;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import static uk.gov.hmcts.reform.dev.controllers.TaskMediaTypes.CBOR;
+import static uk.gov.hmcts.reform.dev.controllers.TaskMediaTypes.JSON;
+import static uk.gov.hmcts.reform.dev.controllers.TaskMediaTypes.SMILE;
+
 @RestController
+@Profile("!reactive")
 @Tag(name = "Tasks", description = "Contains REST endpoints that support viewing tasks, creating new tasks, "
     + "updating the status of a task and deleting tasks.")
 public class TaskController {
@@ -43,43 +70,206 @@ public class TaskController {
 
     @Operation(
         summary = "Retrieve a task by ID",
-        description = "Returns a single task object. Returns 404 if the task does not exist."
+        description = "Returns a single task object with its ETag. Returns 304 if If-None-Match holds the current"
+            + " ETag. Returns 404 if the task does not exist."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Task not modified", content = @Content),
         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
     })
-    @GetMapping(value = "/getTask", produces = "application/json")
-    public ResponseEntity<TaskDTO> getTaskById(@RequestParam Long id) {
-        return ResponseEntity.ok(taskManagementService.getTaskById(id));
+    @GetMapping(value = "/getTask", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskDTO> getTaskById(@RequestParam Long id, WebRequest request) {
+        // The task comes from the cache when it's there, so a 304 usually costs no query at all.
+        TaskDTO task = taskManagementService.getTaskById(id);
+        String etag = TaskETags.forTask(task);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && request.checkNotModified(TaskETags.inFormatSent(ifNoneMatch, etag))) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(task);
+    }
+
+    @Operation(
+        summary = "Retrieve many tasks by ID in one request.",
+        description = "Takes a comma separated list of IDs and returns the tasks that exist, in the order requested,"
+            + " along with the IDs that were not found. For long lists use the POST form of this endpoint."
+            + " Returns 400 if no IDs are given or more than " + TaskManagementService.MAX_BULK_IDS + " are."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Missing or too many IDs", content = @Content)
+    })
+    @GetMapping(value = "/getTasksByIds", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskBatchDTO> getTasksByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskManagementService.getTasksByIds(ids));
+    }
+
+    @Operation(
+        summary = "Retrieve many tasks by ID, with the IDs supplied as a JSON array in the request body.",
+        description = "Behaves like GET /getTasksByIds, without the URL length limit on the number of IDs."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Missing or too many IDs", content = @Content)
+    })
+    @PostMapping(value = "/getTasksByIds", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskBatchDTO> getTasksByIdsFromBody(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskManagementService.getTasksByIds(ids));
     }
 
     @Operation(
-        summary = "Retrieve all tasks.",
-        description = "Returns a list of task objects. Returns 404 if the task does not exist."
+        summary = "Retrieve a page of tasks, optionally filtered by status and due date.",
+        description = "Returns a page of task objects ordered by ID. Pass the returned nextCursor as the after"
+            + " parameter to fetch the following page; nextCursor is null on the last page."
+            + " The status parameter may be repeated, or hold several comma-separated statuses, to match any of them."
+            + " The page's ETag is returned, and 304 is returned if If-None-Match holds the current one."
+            + " With snapshot mode on, the first page with no filters is served from memory, gzipped if the client"
+            + " accepts it, and may be up to task.snapshot.max-staleness old."
+            + " Send Accept: application/cbor or application/x-jackson-smile for a smaller binary encoding."
+            + " Returns 404 if no tasks exist. Returns 400 if the cursor, limit or a status is invalid."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Page not modified", content = @Content),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or status", content = @Content),
         @ApiResponse(responseCode = "404", description = "No Tasks not found", content = @Content)
     })
-    @GetMapping(value = "/getTasks", produces = "application/json")
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        return ResponseEntity.ok(taskManagementService.getAllTasks());
+    @GetMapping(value = "/getTasks", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskPageDTO> getAllTasks(@ParameterObject TaskQueryDTO query, WebRequest request,
+                                                   HttpServletResponse response) throws IOException {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        TaskPageSnapshot.Snapshot snapshot = TaskMediaTypes.asksForBinary(request.getHeader(HttpHeaders.ACCEPT))
+            ? null
+            : taskManagementService.getAllTasksSnapshot(query);
+        if (snapshot != null) {
+            if (!request.checkNotModified(TaskETags.inFormatSent(ifNoneMatch, snapshot.getEtag()))) {
+                writeSnapshot(snapshot, request.getHeader(HttpHeaders.ACCEPT_ENCODING), response);
+            }
+            return null;
+        }
+        if (ifNoneMatch != null && request.checkNotModified(
+            TaskETags.inFormatSent(ifNoneMatch, taskManagementService.getAllTasksETag(query)))) {
+            return null;
+        }
+        TaskPageDTO page = taskManagementService.getAllTasks(query);
+        return ResponseEntity.ok().eTag(TaskETags.forPage(page)).body(page);
+    }
+
+    private static void writeSnapshot(TaskPageSnapshot.Snapshot snapshot, String acceptEncoding,
+                                      HttpServletResponse response) throws IOException {
+        byte[] body = snapshot.getJson();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, snapshot.getEtag());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (snapshot.getGzipped() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(acceptEncoding)) {
+                body = snapshot.getGzipped();
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @Operation(
+        summary = "Retrieve a page of overdue tasks.",
+        description = "Returns a page of tasks that are not DONE or CLOSED and whose due date has passed, ordered by"
+            + " ID. Pages with after and limit in the same way as /getTasks."
+            + " Returns 404 if no tasks are overdue. Returns 400 if the cursor or limit is invalid."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content),
+        @ApiResponse(responseCode = "404", description = "No tasks are overdue", content = @Content)
+    })
+    @GetMapping(value = "/getOverdueTasks", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskPageDTO> getOverdueTasks(@RequestParam(required = false) String after,
+                                                       @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskManagementService.getOverdueTasks(after, limit));
+    }
+
+    @Operation(
+        summary = "Count tasks by status and due date.",
+        description = "Returns the number of tasks in each status, and the number of tasks that are not DONE or"
+            + " CLOSED that are overdue (due before today), due today, due later this week (up to Sunday) or due"
+            + " later. Served from counters kept in memory, which are reconciled with the database every few"
+            + " minutes, so changes made by bulk operations or other instances can take that long to show."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved")
+    })
+    @GetMapping(value = "/getTaskStats", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        return ResponseEntity.ok(taskManagementService.getTaskStats());
+    }
+
+    @Operation(
+        summary = "Search tasks by title and description.",
+        description = "Returns a page of tasks whose title or description matches q, best match first, with title"
+            + " matches ranked above description matches. Words are matched by their stem, and q may use quoted"
+            + " phrases, OR and -word to exclude a word. Pages with after and limit in the same way as /getTasks."
+            + " Returns 404 if no tasks match. Returns 400 if q is blank or the cursor or limit is invalid."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Missing query, invalid cursor or limit", content = @Content),
+        @ApiResponse(responseCode = "404", description = "No tasks match the search", content = @Content)
+    })
+    @GetMapping(value = "/searchTasks", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskPageDTO> searchTasks(@RequestParam(required = false) String q,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskManagementService.searchTasks(q, after, limit));
+    }
+
+    @Operation(
+        summary = "Export all tasks as newline-delimited JSON.",
+        description = "Streams every task, ordered by ID, as one JSON object per line. The response is written as"
+            + " rows are read from the database, so it is suitable for full dumps of the task table."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved")
+    })
+    @GetMapping(value = "/exportTasks", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(taskManagementService::exportTasks);
     }
 
     @Operation(
         summary = "Update the status of a task given the ID and a request body containing the new status.",
         description = "Returns a single task object. This returned task will be the complete new object."
-            + " Returns 404 if the task does not exist."
+            + " If If-Match holds an ETag of the task, the update only applies if the task is unchanged since."
+            + " Returns 404 if the task does not exist. Returns 412 if the task has changed."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
-        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+        @ApiResponse(responseCode = "412", description = "Task changed since If-Match", content = @Content)
     })
-    @PutMapping(value = "/updateTaskStatus", produces = "application/json")
+    @PutMapping(value = "/updateTaskStatus", produces = {JSON, CBOR, SMILE})
     public ResponseEntity<TaskDTO> updateTaskStatus(@RequestParam Long id,
-                                                    @RequestBody UpdateTaskDTO updateTaskDTO) {
-        return ResponseEntity.ok(taskManagementService.updateTask(id, updateTaskDTO));
+                                                    @RequestBody UpdateTaskDTO updateTaskDTO,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                    String ifMatch) {
+        TaskDTO task = taskManagementService.updateTask(id, updateTaskDTO, TaskETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(TaskETags.forTask(task)).body(task);
     }
 
     @Operation(
@@ -91,7 +281,7 @@ public class TaskController {
         @ApiResponse(responseCode = "204", description = "Successfully retrieved"),
         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
     })
-    @DeleteMapping(value = "/deleteTask", produces = "application/json")
+    @DeleteMapping(value = "/deleteTask", produces = {JSON, CBOR, SMILE})
     public ResponseEntity<TaskDTO> deleteTask(@RequestParam Long id) {
         taskManagementService.deleteTask(id);
         return ResponseEntity.noContent().build();
@@ -107,9 +297,87 @@ public class TaskController {
         @ApiResponse(responseCode = "400", description = "Successfully retrieved"),
         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
     })
-    @PostMapping(value = "/createTask", produces = "application/json")
+    @PostMapping(value = "/createTask", produces = {JSON, CBOR, SMILE})
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody CreateTaskDTO createTaskDTO) {
         logger.info("Request to create new task: " + createTaskDTO);
         return ResponseEntity.ok(taskManagementService.createTask(createTaskDTO));
     }
+
+    @Operation(
+        summary = "Create many tasks with the content supplied in the request body.",
+        description = "Validates each task independently and creates all of the valid ones. Returns the created"
+            + " tasks along with the index and validation errors of any rejected ones."
+            + " Returns 400 if the list is empty or has more than "
+            + TaskManagementService.MAX_BULK_CREATE_SIZE + " items."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully created"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized request", content = @Content)
+    })
+    @PostMapping(value = "/createTasks", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<BulkCreateResultDTO> createTasks(@RequestBody List<CreateTaskDTO> createTaskDTOs) {
+        logger.info("Request to create " + createTaskDTOs.size() + " tasks");
+        return ResponseEntity.ok(taskManagementService.createTasks(createTaskDTOs));
+    }
+
+    @Operation(
+        summary = "Import tasks from a CSV upload.",
+        description = "Expects a header row of title,description,status,dueDatetime followed by one task per row."
+            + " Each row is validated with the same rules as createTask; valid rows are loaded and invalid ones"
+            + " skipped. Returns the number of accepted and rejected rows, with details of the first "
+            + TaskManagementService.MAX_REPORTED_IMPORT_ERRORS + " rejected rows."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import completed")
+    })
+    @PostMapping(value = "/importTasks", consumes = "text/csv", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskImportResultDTO> importTasksCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(taskManagementService.importTasks(body, TaskImportFormat.CSV));
+    }
+
+    @Operation(
+        summary = "Import tasks from a newline-delimited JSON upload.",
+        description = "Expects one createTask request body per line. Each row is validated with the same rules as"
+            + " createTask; valid rows are loaded and invalid ones skipped. Returns the number of accepted and"
+            + " rejected rows, with details of the first "
+            + TaskManagementService.MAX_REPORTED_IMPORT_ERRORS + " rejected rows."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import completed")
+    })
+    @PostMapping(value = "/importTasks", consumes = "application/x-ndjson", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<TaskImportResultDTO> importTasksNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(taskManagementService.importTasks(body, TaskImportFormat.NDJSON));
+    }
+
+    @Operation(
+        summary = "Update the status of many tasks at once.",
+        description = "Tasks are selected either by a list of IDs or by a status and due date filter, and updated"
+            + " with a single statement. When selecting by ID, the response lists which IDs matched and which"
+            + " were missing. Returns 400 if the selection is empty or mixes IDs with a filter."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid selection", content = @Content)
+    })
+    @PutMapping(value = "/updateTasksStatus", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<BulkOperationResultDTO> updateTasksStatus(
+        @Valid @RequestBody BulkUpdateTaskStatusDTO bulkUpdateTaskStatusDTO) {
+        return ResponseEntity.ok(taskManagementService.updateTasksStatus(bulkUpdateTaskStatusDTO));
+    }
+
+    @Operation(
+        summary = "Delete many tasks at once.",
+        description = "Tasks are selected either by a list of IDs or by a status and due date filter, and deleted"
+            + " with a single statement. When selecting by ID, the response lists which IDs matched and which"
+            + " were missing. Returns 400 if the selection is empty or mixes IDs with a filter."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully deleted"),
+        @ApiResponse(responseCode = "400", description = "Invalid selection", content = @Content)
+    })
+    @DeleteMapping(value = "/deleteTasks", produces = {JSON, CBOR, SMILE})
+    public ResponseEntity<BulkOperationResultDTO> deleteTasks(@RequestBody TaskSelectionDTO taskSelectionDTO) {
+        return ResponseEntity.ok(taskManagementService.deleteTasks(taskSelectionDTO));
+    }
 }
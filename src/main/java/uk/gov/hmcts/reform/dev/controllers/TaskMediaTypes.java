@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.http.MediaType;
+
+/**
+ * The representations the task endpoints produce. JSON is listed first, so it's what a client gets unless its
+ * Accept header asks for one of the binary encodings, which carry the same model written as CBOR or Smile.
+ */
+public final class TaskMediaTypes {
+
+    public static final String JSON = MediaType.APPLICATION_JSON_VALUE;
+    public static final String CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private static final MediaType SMILE_TYPE = MediaType.valueOf(SMILE);
+
+    private TaskMediaTypes() {
+    }
+
+    /**
+     * The name a binary encoding is tagged with in ETags, or null for JSON and anything else.
+     */
+    public static String etagFormat(MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+            return "cbor";
+        }
+        if (mediaType.equalsTypeAndSubtype(SMILE_TYPE)) {
+            return "smile";
+        }
+        return null;
+    }
+
+    /**
+     * True when the Accept header names one of the binary encodings, in which case the request can't be answered
+     * with JSON written ahead of time.
+     */
+    public static boolean asksForBinary(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(mediaType -> etagFormat(mediaType) != null);
+        } catch (IllegalArgumentException e) {
+            // Left to content negotiation, which rejects it.
+            return true;
+        }
+    }
+}
@@ -3,14 +3,18 @@ package uk.gov.hmcts.reform.dev.exceptions;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Thrown for every lookup of a task that doesn't exist, which is an expected outcome rather than a fault, so no
+ * stack trace is captured. That keeps a flood of 404s from costing a stack walk each.
+ */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class TaskNotFoundException extends RuntimeException {
 
     public TaskNotFoundException(Long id) {
-        super("Task not found with id: " + id);
+        this("Task not found with id: " + id);
     }
 
     public TaskNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class TaskVersionMismatchException extends RuntimeException {
+
+    public TaskVersionMismatchException(Long id) {
+        super("Task with id: " + id + " has been changed since the version given in If-Match.");
+    }
+
+    public TaskVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.repository.RequestSqlStats;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Counts the SQL each request runs and logs a warning for any request that goes over the statement or JDBC time
+ * budget, or runs the same statement more times than the repeat budget allows, which is how an N+1 query looks.
+ *
+ * <p>With headers on, the counts are also sent back as X-Sql-Statements, X-Sql-Rows and X-Sql-Time-Ms. They are
+ * added just before the response starts, so they cover everything run up to then.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    private final boolean headers;
+    private final int statementBudget;
+    private final long jdbcTimeBudgetMillis;
+    private final int repeatedStatementBudget;
+
+    public SqlStatsFilter(boolean headers, int statementBudget, Duration jdbcTimeBudget, int repeatedStatementBudget) {
+        this.headers = headers;
+        this.statementBudget = statementBudget;
+        this.jdbcTimeBudgetMillis = jdbcTimeBudget.toMillis();
+        this.repeatedStatementBudget = repeatedStatementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            if (headers) {
+                StatsHeaderResponse statsResponse = new StatsHeaderResponse(response, stats);
+                chain.doFilter(request, statsResponse);
+                statsResponse.addHeaders();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            RequestSqlStats.end();
+            checkBudgets(request, stats);
+        }
+    }
+
+    private void checkBudgets(HttpServletRequest request, RequestSqlStats stats) {
+        Map.Entry<String, Integer> mostRepeated = stats.getMostRepeated();
+        boolean repeated = mostRepeated != null && mostRepeated.getValue() > repeatedStatementBudget;
+        if (stats.getStatements() > statementBudget || stats.getJdbcMillis() > jdbcTimeBudgetMillis || repeated) {
+            logger.warn(String.format(
+                "%s %s ran %d SQL statements (budget %d) touching %d rows in %dms of JDBC time (budget %dms)%s",
+                request.getMethod(), request.getRequestURI(), stats.getStatements(), statementBudget,
+                stats.getRows(), stats.getJdbcMillis(), jdbcTimeBudgetMillis,
+                repeated ? String.format("; ran %d times, possibly an N+1 query: %s",
+                                         mostRepeated.getValue(), mostRepeated.getKey()) : ""
+            ));
+        }
+    }
+
+    /**
+     * Adds the stats headers the first time the response is about to be committed, or when the request ends if
+     * nothing was written.
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final RequestSqlStats stats;
+        private boolean added;
+
+        StatsHeaderResponse(HttpServletResponse response, RequestSqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void addHeaders() {
+            if (!added && !isCommitted()) {
+                added = true;
+                setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+                setHeader(TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
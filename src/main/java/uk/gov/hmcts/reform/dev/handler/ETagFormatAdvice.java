@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.handler;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import uk.gov.hmcts.reform.dev.controllers.TaskMediaTypes;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+
+/**
+ * Controllers set ETags before content negotiation has picked the response format, so a strong ETag is tagged
+ * with the format here, once it is known. Weak ETags stand for every format and are left as they are. Responses
+ * with an ETag also vary on Accept, for the benefit of caches.
+ */
+@RestControllerAdvice
+public class ETagFormatAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        String etag = headers.getETag();
+        if (etag != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            String format = TaskMediaTypes.etagFormat(selectedContentType);
+            if (format != null && !etag.startsWith("W/")) {
+                headers.setETag(TaskETags.withFormat(etag, format));
+            }
+        }
+        return body;
+    }
+}
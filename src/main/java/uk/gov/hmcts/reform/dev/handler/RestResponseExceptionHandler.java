@@ -1,33 +1,80 @@
 package uk.gov.hmcts.reform.dev.handler;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.ErrorResponseDTO;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Each error response is also counted as task.request.errors, tagged with its reason. Request bodies that fail
+ * validation never reach the service, so this is the only place they are counted.
+ */
 @RestControllerAdvice
 public class RestResponseExceptionHandler {
+    private static final String ERRORS_METRIC = "task.request.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    public RestResponseExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(TaskNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleNotFound(TaskNotFoundException ex) {
+    public ResponseEntity<ErrorResponseDTO> handleNotFound(TaskNotFoundException ex) {
+        countError("not_found");
+        return new ResponseEntity<>(
+            new ErrorResponseDTO(LocalDateTime.now(), ex.getMessage(), "Not Found"), HttpStatus.NOT_FOUND
+        );
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVersionMismatch(TaskVersionMismatchException ex) {
+        countError("version_mismatch");
+        return new ResponseEntity<>(
+            new ErrorResponseDTO(LocalDateTime.now(), ex.getMessage(), "Precondition Failed"),
+            HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidRequestException ex) {
+        countError("invalid_request");
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("message", ex.getMessage());
-        body.put("error", "Not Found");
+        body.put("error", "Bad Request");
 
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        return validationErrorResponse(ex.getBindingResult());
+    }
+
+    // The reactive profile's equivalent of MethodArgumentNotValidException.
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleReactiveValidationExceptions(WebExchangeBindException ex) {
+        return validationErrorResponse(ex.getBindingResult());
+    }
+
+    private ResponseEntity<Map<String, Object>> validationErrorResponse(BindingResult bindingResult) {
+        countError("validation");
         Map<String, String> errors = new HashMap<>();
         // Extract each field name and its custom message
-        ex.getBindingResult().getFieldErrors().forEach(error -> errors.put(error.getField(), error.getDefaultMessage())
+        bindingResult.getFieldErrors().forEach(error -> errors.put(error.getField(), error.getDefaultMessage())
         );
 
         Map<String, Object> errorResponse = new HashMap<>();
@@ -37,4 +84,8 @@ public class RestResponseExceptionHandler {
             + "Please ensure that all mandatory fields are included.");
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
+
+    private void countError(String reason) {
+        meterRegistry.counter(ERRORS_METRIC, "reason", reason).increment();
+    }
 }
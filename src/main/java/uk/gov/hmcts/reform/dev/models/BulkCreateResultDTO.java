@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkCreateResultDTO {
+    private List<TaskDTO> created;
+    private List<BulkItemErrorDTO> errors;
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkItemErrorDTO {
+    // Position of the rejected item in the request body.
+    private int index;
+    private Map<String, String> validationErrors;
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkOperationResultDTO {
+    private int affected;
+    // Only populated when the selection was made by id.
+    private List<Long> matchedIds;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkUpdateTaskStatusDTO {
+    @NotNull(message = "Selection is a mandatory field.")
+    private TaskSelectionDTO selection;
+    @NotBlank(message = "Status is a mandatory field.")
+    @Pattern(regexp = TaskStatus.NAME_PATTERN, message = TaskStatus.NAME_MESSAGE)
+    private String status;
+}
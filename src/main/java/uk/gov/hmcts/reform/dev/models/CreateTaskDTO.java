@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.dev.models;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,9 +15,15 @@ import java.time.LocalDateTime;
 @Setter
 public class CreateTaskDTO {
     @NotBlank(message = "Title is a mandatory field.")
+    @Size(max = Task.TEXT_MAX_LENGTH, message = "Title must be at most " + Task.TEXT_MAX_LENGTH + " characters.")
     private String title;
+    @Size(
+        max = Task.TEXT_MAX_LENGTH,
+        message = "Description must be at most " + Task.TEXT_MAX_LENGTH + " characters."
+    )
     private String description;
     @NotBlank(message = "Status is a mandatory field.")
+    @Pattern(regexp = TaskStatus.NAME_PATTERN, message = TaskStatus.NAME_MESSAGE)
     private String status;
     @NotNull(message = "Due Date is a mandatory field.")
     private LocalDateTime dueDatetime;
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ErrorResponseDTO {
+    private LocalDateTime timestamp;
+    private String message;
+    private String error;
+}
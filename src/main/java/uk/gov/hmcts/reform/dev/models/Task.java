@@ -1,33 +1,59 @@
 package uk.gov.hmcts.reform.dev.models;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
+// The table, its sequence and indexes are created by the Flyway migrations in db/migration; Hibernate only
+// validates that they match this mapping.
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Task {
-    private @Id @GeneratedValue Long id;
+    // Matches hibernate.jdbc.batch_size, so a full insert batch needs at most one call to the sequence.
+    public static final int ID_ALLOCATION_SIZE = 50;
+    // The length of the title and description columns.
+    public static final int TEXT_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
     @NotBlank(message = "Title is a mandatory field.")
     private String title;
     private String description;
     @NotBlank(message = "Status is a mandatory field.")
+    @Convert(converter = TaskStatusConverter.class)
     private String status;
     @NotNull(message = "Due Date is a mandatory field.")
     private LocalDateTime dueDatetime;
+    // Bumped by every write, including the SQL and bulk updates that bypass Hibernate. Backs the task ETags.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    public Task(Long id, String title, String description, String status, LocalDateTime dueDatetime) {
+        this(id, title, description, status, dueDatetime, 0);
+    }
 
     public TaskDTO toDTO() {
-        return new TaskDTO(id, title, description, status, dueDatetime);
+        return new TaskDTO(id, title, description, status, dueDatetime, version);
     }
 }
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchDTO {
+    // In the order the ids were requested.
+    private List<TaskDTO> tasks;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Getter
+public class TaskCountDTO {
+    private String status;
+    private LocalDate dueDate;
+    private Long count;
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.dev.models;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,10 +11,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 @Setter
+// Written without reflection; keep TaskJsonSerializer in step with the fields here.
+@JsonSerialize(using = TaskJsonSerializer.class)
 public class TaskDTO {
     private Long id;
     private String title;
     private String description;
     private String status;
     private LocalDateTime dueDatetime;
+    // Sent as the ETag header rather than in the body.
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private Long version;
 }
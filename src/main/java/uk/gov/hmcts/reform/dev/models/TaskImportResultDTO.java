@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskImportResultDTO {
+    private long accepted;
+    private long rejected;
+    // Details of the first rejected rows only, see TaskManagementService.MAX_REPORTED_IMPORT_ERRORS.
+    private List<BulkItemErrorDTO> errors;
+}
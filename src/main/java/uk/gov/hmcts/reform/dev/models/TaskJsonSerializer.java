@@ -0,0 +1,137 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a TaskDTO field by field, in the same order and with the same values as Jackson's reflective bean
+ * serializer, so responses are unchanged byte for byte. The due date is written straight from its fields into a
+ * char buffer in ISO_LOCAL_DATE_TIME form, rather than through a DateTimeFormatter and an intermediate String.
+ *
+ * <p>Mapper settings the fast path doesn't cover, dates as timestamps or years outside 0-9999, fall back to the
+ * mapper's own date serializer.
+ */
+public class TaskJsonSerializer extends StdSerializer<TaskDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DUE_DATETIME = new SerializedString("dueDatetime");
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_DATE_TIME_LENGTH = 29;
+    private static final int MAX_FAST_PATH_YEAR = 9999;
+
+    public TaskJsonSerializer() {
+        super(TaskDTO.class);
+    }
+
+    @Override
+    public void serialize(TaskDTO task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        boolean writeNulls = writesNulls(provider);
+        generator.writeStartObject(task);
+        if (task.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(task.getId());
+        } else if (writeNulls) {
+            generator.writeFieldName(ID);
+            generator.writeNull();
+        }
+        writeString(generator, TITLE, task.getTitle(), writeNulls);
+        writeString(generator, DESCRIPTION, task.getDescription(), writeNulls);
+        writeString(generator, STATUS, task.getStatus(), writeNulls);
+        LocalDateTime dueDatetime = task.getDueDatetime();
+        if (dueDatetime != null) {
+            generator.writeFieldName(DUE_DATETIME);
+            writeDateTime(generator, dueDatetime, provider);
+        } else if (writeNulls) {
+            generator.writeFieldName(DUE_DATETIME);
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+
+    private static boolean writesNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig()
+            .getDefaultPropertyInclusion(TaskDTO.class)
+            .getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private static void writeString(JsonGenerator generator, SerializableString name, String value,
+                                    boolean writeNulls) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        } else if (writeNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator generator, LocalDateTime value, SerializerProvider provider)
+        throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, generator);
+            return;
+        }
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        int length = formatDateTime(value, buffer);
+        if (length < 0) {
+            provider.defaultSerializeValue(value, generator);
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
+    }
+
+    /**
+     * Formats the value as DateTimeFormatter.ISO_LOCAL_DATE_TIME would: seconds always, and the fraction only
+     * when it isn't zero, without trailing zeros.
+     *
+     * @return the number of chars written, or -1 if the year needs a sign or more than four digits
+     */
+    static int formatDateTime(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > MAX_FAST_PATH_YEAR) {
+            return -1;
+        }
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano == 0) {
+            return 19;
+        }
+        buffer[19] = '.';
+        writeDigits(buffer, 20, nano, 9);
+        int length = MAX_DATE_TIME_LENGTH;
+        while (buffer[length - 1] == '0') {
+            length--;
+        }
+        return length;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskPageDTO {
+    private List<TaskDTO> tasks;
+    // Null when there are no further pages.
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskQueryDTO {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    // Opaque cursor returned as nextCursor by the previous page.
+    private String after;
+    private Integer limit;
+    // Matches tasks in any of these statuses; given as status=OPEN&status=PENDING or status=OPEN,PENDING.
+    private List<String> status;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    public boolean hasFilters() {
+        return (status != null && !status.isEmpty()) || dueFrom != null || dueTo != null;
+    }
+}
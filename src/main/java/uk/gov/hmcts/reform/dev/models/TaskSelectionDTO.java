@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Picks the tasks a bulk operation applies to, either by listing their ids or by a filter on status
+ * and due date. The two can't be combined.
+ */
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskSelectionDTO {
+    private List<Long> ids;
+    private String status;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+
+    public boolean hasFilters() {
+        return status != null || dueFrom != null || dueTo != null;
+    }
+}
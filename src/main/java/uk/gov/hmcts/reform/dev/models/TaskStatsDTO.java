@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskStatsDTO {
+    private long total;
+    // Every status, in TaskStatus order, including those with no tasks.
+    private Map<String, Long> byStatus;
+    // Tasks that aren't DONE or CLOSED, keyed overdue, today, thisWeek and later.
+    private Map<String, Long> byDueDate;
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The statuses a task can have. The API and DTOs carry the name; the task table stores the code, which keeps
+ * the status indexes small. Codes are persisted, so they must never be changed or reused.
+ */
+public enum TaskStatus {
+    OPEN(0, false),
+    IN_PROGRESS(1, false),
+    PENDING(2, false),
+    DONE(3, true),
+    CLOSED(4, true);
+
+    // For @Pattern on request bodies; TaskStatusTest keeps it in step with the constants above.
+    public static final String NAME_PATTERN = "OPEN|IN_PROGRESS|PENDING|DONE|CLOSED";
+    public static final String NAME_MESSAGE = "Status must be one of OPEN, IN_PROGRESS, PENDING, DONE or CLOSED.";
+
+    private static final TaskStatus[] BY_CODE = new TaskStatus[values().length];
+
+    static {
+        for (TaskStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    private final short code;
+    private final boolean terminal;
+
+    TaskStatus(int code, boolean terminal) {
+        this.code = (short) code;
+        this.terminal = terminal;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * True once no more work is expected on the task; such tasks are never overdue.
+     */
+    public boolean isTerminal() {
+        return terminal;
+    }
+
+    public static TaskStatus fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown task status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Like valueOf, but with a message that can be shown to the client.
+     */
+    public static TaskStatus fromName(String name) {
+        for (TaskStatus status : values()) {
+            if (status.name().equals(name)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException(NAME_MESSAGE);
+    }
+
+    public static List<TaskStatus> active() {
+        return Arrays.stream(values()).filter(status -> !status.terminal).toList();
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskStatusChangeDTO {
+    // The task as it is after the change.
+    private TaskDTO task;
+    private String previousStatus;
+}
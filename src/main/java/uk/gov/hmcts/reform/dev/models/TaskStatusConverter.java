@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores Task.status as its TaskStatus code in a smallint column. Hibernate also applies it to query parameters
+ * compared with the status, so JPQL and criteria queries keep working with status names. Tables that still hold
+ * status names are converted by the V1_1 migration.
+ */
+@Converter
+public class TaskStatusConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String status) {
+        return status == null ? null : TaskStatus.fromName(status).getCode();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskStatus.fromCode(code).name();
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskVersionDTO {
+    private Long id;
+    private long version;
+}
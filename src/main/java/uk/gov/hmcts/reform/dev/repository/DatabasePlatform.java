@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+
+/**
+ * Tells PostgreSQL apart from H2, which the functional tests run against, for the SQL written by hand that has
+ * to differ between the two.
+ */
+final class DatabasePlatform {
+
+    private DatabasePlatform() {
+    }
+
+    static boolean isPostgres(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(
+                dataSource,
+                DatabaseMetaData::getDatabaseProductName
+            );
+            return "PostgreSQL".equals(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Unable to determine the database in use", e);
+        }
+    }
+}
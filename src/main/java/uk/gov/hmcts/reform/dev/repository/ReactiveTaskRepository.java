@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The task table over R2DBC, for the reactive profile. Every write is a single statement that returns the row it
+ * changed, as on the servlet stack, and rows map straight to TaskDTO.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, status, due_datetime, version";
+    // Rows requested from the server at a time while streaming, so a slow subscriber holds back the query.
+    private static final int FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+    private final IdBlock ids = new IdBlock();
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<TaskDTO> findById(long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM task WHERE id = :id")
+            .bind("id", id)
+            .map(ReactiveTaskRepository::toDTO)
+            .one();
+    }
+
+    public Mono<Boolean> existsById(long id) {
+        return databaseClient.sql("SELECT 1 FROM task WHERE id = :id")
+            .bind("id", id)
+            .map(row -> Boolean.TRUE)
+            .one()
+            .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Tasks after the given id in id order. As with TaskSpecifications, only the filters that were requested
+     * appear in the SQL. A null limit streams every matching row.
+     */
+    public Flux<TaskDTO> findPageAfter(long afterId, Collection<String> statuses, LocalDateTime dueFrom,
+                                       LocalDateTime dueTo, Integer limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM task WHERE id > :afterId");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("afterId", afterId);
+        if (statuses != null && statuses.size() == 1) {
+            sql.append(" AND status = :status");
+            parameters.put("status", code(statuses.iterator().next()));
+        } else if (statuses != null && !statuses.isEmpty()) {
+            // DatabaseClient expands the list into one bind marker per code.
+            List<Short> codes = statuses.stream().map(ReactiveTaskRepository::code).toList();
+            sql.append(" AND status IN (:statuses)");
+            parameters.put("statuses", codes);
+        }
+        if (dueFrom != null) {
+            sql.append(" AND due_datetime >= :dueFrom");
+            parameters.put("dueFrom", dueFrom);
+        }
+        if (dueTo != null) {
+            sql.append(" AND due_datetime < :dueTo");
+            parameters.put("dueTo", dueTo);
+        }
+        sql.append(" ORDER BY id");
+        if (limit != null) {
+            sql.append(" LIMIT :limit");
+            parameters.put("limit", limit);
+        }
+        return databaseClient.sql(sql.toString())
+            .bindValues(parameters)
+            .filter((statement, next) -> next.execute(statement.fetchSize(FETCH_SIZE)))
+            .map(ReactiveTaskRepository::toDTO)
+            .all();
+    }
+
+    public Mono<TaskDTO> insert(Task task) {
+        return ids.next().flatMap(id -> {
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                    "INSERT INTO task (id, title, description, status, due_datetime, version)"
+                        + " VALUES (:id, :title, :description, :status, :dueDatetime, 0) RETURNING " + COLUMNS)
+                .bind("id", id)
+                .bind("title", task.getTitle())
+                .bind("status", code(task.getStatus()))
+                .bind("dueDatetime", task.getDueDatetime());
+            spec = task.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", task.getDescription());
+            return spec.map(ReactiveTaskRepository::toDTO).one();
+        });
+    }
+
+    /**
+     * See TaskReturningRepository.updateStatusReturning.
+     */
+    public Mono<TaskDTO> updateStatusReturning(long id, String status, Long expectedVersion) {
+        String sql = "UPDATE task SET status = :status, version = version + 1 WHERE id = :id"
+            + (expectedVersion == null ? "" : " AND version = :version")
+            + " RETURNING " + COLUMNS;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+            .bind("id", id)
+            .bind("status", code(status));
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return spec.map(ReactiveTaskRepository::toDTO).one();
+    }
+
+    public Mono<TaskDTO> deleteReturning(long id) {
+        return databaseClient.sql("DELETE FROM task WHERE id = :id RETURNING " + COLUMNS)
+            .bind("id", id)
+            .map(ReactiveTaskRepository::toDTO)
+            .one();
+    }
+
+    private static TaskDTO toDTO(Readable row) {
+        return new TaskDTO(
+            row.get("id", Long.class),
+            row.get("title", String.class),
+            row.get("description", String.class),
+            TaskStatus.fromCode(row.get("status", Short.class)).name(),
+            row.get("due_datetime", LocalDateTime.class),
+            row.get("version", Long.class)
+        );
+    }
+
+    private static short code(String status) {
+        return TaskStatus.fromName(status).getCode();
+    }
+
+    /**
+     * Hands out ids from task_seq in the same blocks as Hibernate's pooled optimizer and TaskCopyRepository, so
+     * both stacks can write to the same table. If two subscribers refill at once, the one that loses keeps just
+     * the first id of its block.
+     */
+    private final class IdBlock {
+        private long next = 1;
+        private long last = 0;
+
+        Mono<Long> next() {
+            Long id = take();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql("SELECT nextval('task_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(this::refill);
+        }
+
+        private synchronized Long take() {
+            return next <= last ? next++ : null;
+        }
+
+        private synchronized long refill(long hi) {
+            long first = Math.max(1, hi - Task.ID_ALLOCATION_SIZE + 1);
+            if (next > last) {
+                next = first + 1;
+                last = hi;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SQL run on behalf of the current request: statements executed, rows read or written and time spent in JDBC.
+ * Filled in by SqlStatsListener for whichever thread has started one, which is the request thread; work a request
+ * hands to another thread, such as a streamed export, isn't counted.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long jdbcMillis;
+
+    private RequestSqlStats() {
+    }
+
+    /**
+     * Starts counting for the current thread. Must be paired with end().
+     */
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void statement(String sql, long elapsedMillis, long rowsWritten) {
+        statements++;
+        jdbcMillis += elapsedMillis;
+        rows += rowsWritten;
+        executionsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcMillis;
+    }
+
+    /**
+     * The statement run the most times, which when it runs once per row loaded is the sign of an N+1 query.
+     *
+     * @return null if no statements ran
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return executionsBySql.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adds every statement run through the proxied DataSource to the current request's RequestSqlStats, along with
+ * the rows it wrote and, when result sets are proxied, the rows read. A statement slower than the threshold is
+ * logged with its SQL whether or not a request is being counted. A JDBC batch counts as one statement, as it is
+ * one round trip.
+ */
+public class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsListener.class);
+
+    private final long slowQueryMillis;
+
+    public SqlStatsListener(Duration slowQueryThreshold) {
+        this.slowQueryMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Everything is recorded once the statement has run.
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.getElapsedTime() >= slowQueryMillis) {
+            logger.warn("Slow SQL took {}ms: {}", execInfo.getElapsedTime(), sql);
+        }
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statement(sql, execInfo.getElapsedTime(), rowsWritten(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        // Rows are counted once next() has returned.
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+            && Boolean.TRUE.equals(executionContext.getResult())
+            && "next".equals(executionContext.getMethod().getName())) {
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.rowRead();
+            }
+        }
+    }
+
+    private static long rowsWritten(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(0, count.longValue());
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(0, count);
+            }
+        }
+        return rows;
+    }
+}
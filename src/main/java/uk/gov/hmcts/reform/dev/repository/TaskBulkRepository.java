@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bulk writes to the tasks selected by status and due date. Filters that are null are left out of the generated
+ * SQL altogether, as for pages, so each combination gets its own statement and can use the matching index.
+ * Pending changes are flushed first and the persistence context is cleared afterwards, since the statement
+ * bypasses it. Both return the number of tasks affected.
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * Sets the status and bumps the version of every matching task.
+     */
+    int updateStatusMatching(String newStatus, String status, LocalDateTime dueFrom, LocalDateTime dueTo);
+
+    int deleteMatching(String status, LocalDateTime dueFrom, LocalDateTime dueTo);
+}
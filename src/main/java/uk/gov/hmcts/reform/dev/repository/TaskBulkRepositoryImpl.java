@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria updates and deletes built from TaskSpecifications.matching. A single JPQL statement would have to test
+ * each parameter for null, which the database can't plan around once it settles on a generic plan.
+ */
+class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private final EntityManager entityManager;
+
+    TaskBulkRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateStatusMatching(String newStatus, String status, LocalDateTime dueFrom, LocalDateTime dueTo) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        update.set(root.<String>get("status"), newStatus)
+            .set(root.<Long>get("version"), builder.sum(root.<Long>get("version"), 1L))
+            .where(TaskSpecifications.matching(status, dueFrom, dueTo).toPredicate(root, null, builder));
+        entityManager.flush();
+        int affected = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+
+    @Override
+    public int deleteMatching(String status, LocalDateTime dueFrom, LocalDateTime dueTo) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Task> delete = builder.createCriteriaDelete(Task.class);
+        Root<Task> root = delete.from(Task.class);
+        delete.where(TaskSpecifications.matching(status, dueFrom, dueTo).toPredicate(root, null, builder));
+        entityManager.flush();
+        int affected = entityManager.createQuery(delete).executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Loads tasks with PostgreSQL's COPY protocol, which is far cheaper per row than INSERT statements.
+ * Only available when running against PostgreSQL.
+ */
+@Repository
+@Profile("!reactive")
+public class TaskCopyRepository {
+
+    private static final String COPY_SQL =
+        "COPY task (id, title, description, status, due_datetime) FROM STDIN WITH (FORMAT csv)";
+    private static final String NEXT_ID_SQL = "SELECT nextval('task_seq')";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskCopyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the tasks into the task table as a single COPY, so either every row is loaded or none are.
+     * Rows are sent in small buffers as the iterator is consumed rather than being collected first. Must not
+     * be called inside a transaction, as the ids are reserved on a second connection while the copy runs.
+     *
+     * @param idListener called with each id handed out, before the copy is committed
+     * @return the number of rows copied
+     */
+    public long copyIn(Iterator<Task> tasks, LongConsumer idListener) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                IdBlock ids = new IdBlock();
+                StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+                while (tasks.hasNext()) {
+                    long id = ids.next();
+                    appendRow(buffer, id, tasks.next());
+                    idListener.accept(id);
+                    if (buffer.length() >= BUFFER_SIZE) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+                return copyIn.endCopy();
+            } catch (SQLException | RuntimeException e) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw e;
+            }
+        });
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendRow(StringBuilder buffer, long id, Task task) {
+        buffer.append(id).append(',');
+        appendText(buffer, task.getTitle());
+        buffer.append(',');
+        appendText(buffer, task.getDescription());
+        buffer.append(',');
+        buffer.append(TaskStatus.fromName(task.getStatus()).getCode()).append(',');
+        buffer.append(task.getDueDatetime()).append('\n');
+    }
+
+    private static void appendText(StringBuilder buffer, String value) {
+        // An unquoted empty field is NULL in COPY's csv format, a quoted one is an empty string.
+        if (value != null) {
+            buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Hands out ids the same way Hibernate's pooled optimizer does: each nextval on task_seq reserves the
+     * block of Task.ID_ALLOCATION_SIZE ids ending at the returned value. The sequence is read on a separate
+     * connection because the one running COPY can't issue other statements until the copy ends.
+     */
+    private final class IdBlock {
+        private long next = 1;
+        private long last = 0;
+
+        long next() {
+            if (next > last) {
+                Long hi = jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+                last = hi;
+                next = Math.max(1, hi - Task.ID_ALLOCATION_SIZE + 1);
+            }
+            return next++;
+        }
+    }
+}
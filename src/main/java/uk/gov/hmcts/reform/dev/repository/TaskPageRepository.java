@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskVersionDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keyset pages of tasks ordered by id, starting after the given id. Filters that are null or empty are left out
+ * of the generated SQL altogether, and rows are selected straight into DTOs rather than loaded as entities.
+ */
+public interface TaskPageRepository {
+
+    List<TaskDTO> findPageAfter(long afterId, Collection<String> statuses, LocalDateTime dueFrom,
+                                LocalDateTime dueTo, int limit);
+
+    /**
+     * Same rows, in the same order, as findPageAfter, but just the id and version of each, which is all that's
+     * needed to tell whether a client's copy is current.
+     */
+    List<TaskVersionDTO> findPageVersionsAfter(long afterId, Collection<String> statuses, LocalDateTime dueFrom,
+                                               LocalDateTime dueTo, int limit);
+
+    /**
+     * Tasks that aren't in a terminal status and were due before the given time.
+     */
+    List<TaskDTO> findOverduePageAfter(long afterId, LocalDateTime now, int limit);
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskVersionDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Reuses the page specification in constructor-expression queries, so pages are read without hydrating any
+ * entities or leaving anything in the persistence context to dirty check. The overdue page is plain SQL, as
+ * its status condition has to match the partial index's exactly.
+ */
+class TaskPageRepositoryImpl implements TaskPageRepository {
+
+    /**
+     * Must match the predicate of idx_task_active_due_datetime in V2__task_indexes.sql. Written with the codes
+     * inlined rather than bound, so the planner can match the query to the index.
+     */
+    static final String ACTIVE_STATUS_PREDICATE = TaskStatus.active().stream()
+        .map(status -> String.valueOf(status.getCode()))
+        .collect(Collectors.joining(", ", "status IN (", ")"));
+
+    private static final String OVERDUE_PAGE = "SELECT " + TaskReturningRepositoryImpl.COLUMNS + " FROM task"
+        + " WHERE " + ACTIVE_STATUS_PREDICATE
+        + " AND due_datetime < :now AND id > :afterId ORDER BY id LIMIT :limit";
+
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    TaskPageRepositoryImpl(EntityManager entityManager, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskDTO> findPageAfter(long afterId, Collection<String> statuses, LocalDateTime dueFrom,
+                                       LocalDateTime dueTo, int limit) {
+        return page(TaskDTO.class, afterId, statuses, dueFrom, dueTo, limit, (builder, root) -> builder.construct(
+            TaskDTO.class,
+            root.get("id"),
+            root.get("title"),
+            root.get("description"),
+            root.get("status"),
+            root.get("dueDatetime"),
+            root.get("version")
+        ));
+    }
+
+    @Override
+    public List<TaskVersionDTO> findPageVersionsAfter(long afterId, Collection<String> statuses,
+                                                      LocalDateTime dueFrom, LocalDateTime dueTo, int limit) {
+        return page(TaskVersionDTO.class, afterId, statuses, dueFrom, dueTo, limit, (builder, root) ->
+            builder.construct(TaskVersionDTO.class, root.get("id"), root.get("version")));
+    }
+
+    @Override
+    public List<TaskDTO> findOverduePageAfter(long afterId, LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+            OVERDUE_PAGE,
+            new MapSqlParameterSource("now", now).addValue("afterId", afterId).addValue("limit", limit),
+            TaskReturningRepositoryImpl.TASK_DTO_ROW_MAPPER
+        );
+    }
+
+    private <T> List<T> page(Class<T> resultType, long afterId, Collection<String> statuses, LocalDateTime dueFrom,
+                             LocalDateTime dueTo, int limit,
+                             BiFunction<CriteriaBuilder, Root<Task>, Selection<T>> selection) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(resultType);
+        Root<Task> root = query.from(Task.class);
+        query.select(selection.apply(builder, root))
+            .where(TaskSpecifications.pageAfter(afterId, statuses, dueFrom, dueTo).toPredicate(root, query, builder))
+            .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
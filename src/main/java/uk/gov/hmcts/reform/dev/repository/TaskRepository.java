@@ -1,10 +1,61 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskCountDTO;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+    TaskReturningRepository, TaskPageRepository, TaskSearchRepository, TaskBulkRepository {
+
+    /**
+     * Selects a task straight into a TaskDTO. The read paths use these projections so no entity is hydrated,
+     * put in the persistence context or snapshotted for dirty checking.
+     */
+    String SELECT_TASK_DTO = "SELECT new uk.gov.hmcts.reform.dev.models.TaskDTO("
+        + "t.id, t.title, t.description, t.status, t.dueDatetime, t.version) FROM Task t";
+
     Task findTaskById(Long id);
+
+    @Query(SELECT_TASK_DTO + " WHERE t.id = :id")
+    Optional<TaskDTO> findByIdAsDTO(@Param("id") Long id);
+
+    /**
+     * Streams every task in id order through a server-side cursor. Must be consumed inside a transaction,
+     * otherwise the PostgreSQL driver ignores the fetch size and reads the whole result set into memory.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_TASK_DTO + " ORDER BY t.id")
+    Stream<TaskDTO> streamAllAsDTOs();
+
+    /**
+     * Streams every task id through a server-side cursor; the same transaction rule applies as above.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT t.id FROM Task t")
+    Stream<Long> streamAllIds();
+
+    @Query(SELECT_TASK_DTO + " WHERE t.id IN :ids")
+    List<TaskDTO> findByIdInAsDTOs(@Param("ids") Collection<Long> ids);
+
+    /**
+     * How many tasks there are of each status due on each day; what TaskStatistics reconciles its counters against.
+     */
+    @Query("SELECT new uk.gov.hmcts.reform.dev.models.TaskCountDTO("
+        + "t.status, cast(t.dueDatetime as LocalDate), count(t)) FROM Task t"
+        + " GROUP BY t.status, cast(t.dueDatetime as LocalDate)")
+    List<TaskCountDTO> countByStatusAndDueDate();
 }
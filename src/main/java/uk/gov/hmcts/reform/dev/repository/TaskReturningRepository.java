@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatusChangeDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes that hand back what they changed in the same statement, so the hot update and delete paths cost one
+ * round trip and never hydrate an entity, and bulk writes by id report exactly the rows they changed.
+ */
+public interface TaskReturningRepository {
+
+    /**
+     * Sets the status and bumps the version. When expectedVersion is given, the row is only updated if it is
+     * still at that version; an empty result then means the task is missing or has moved on. The status the
+     * task had before is returned alongside its new state.
+     */
+    Optional<TaskStatusChangeDTO> updateStatusReturning(Long id, String status, Long expectedVersion);
+
+    Optional<TaskDTO> deleteReturning(Long id);
+
+    /**
+     * Sets the status and bumps the version of each task with one of the ids, returning the ids it updated.
+     */
+    List<Long> updateStatusByIdInReturningIds(Collection<Long> ids, String status);
+
+    /**
+     * Deletes each task with one of the ids, returning the ids it deleted.
+     */
+    List<Long> deleteByIdInReturningIds(Collection<Long> ids);
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusChangeDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Uses UPDATE/DELETE ... RETURNING on PostgreSQL. H2, which the functional tests run against, has no RETURNING
+ * clause, so there the same single statement is written with its OLD TABLE delta table instead.
+ */
+class TaskReturningRepositoryImpl implements TaskReturningRepository {
+
+    static final String COLUMNS = "id, title, description, status, due_datetime, version";
+
+    private static final String UPDATE_STATUS =
+        "UPDATE task SET status = :status, version = version + 1 WHERE id = :id";
+    private static final String VERSION_MATCHES = " AND version = :version";
+
+    // RETURNING only sees the new row, so the previous status is read by a subquery that locks the row first.
+    private static final String POSTGRES_UPDATE_STATUS_FROM_PREVIOUS =
+        "UPDATE task SET status = :status, version = task.version + 1"
+            + " FROM (SELECT id, status FROM task WHERE id = :id FOR UPDATE) previous WHERE task.id = previous.id";
+    private static final String POSTGRES_RETURNING = " RETURNING task.id, task.title, task.description,"
+        + " task.status, task.due_datetime, task.version, previous.status AS previous_status";
+    private static final String POSTGRES_UPDATE_STATUS = POSTGRES_UPDATE_STATUS_FROM_PREVIOUS + POSTGRES_RETURNING;
+    private static final String POSTGRES_UPDATE_STATUS_IF_VERSION =
+        POSTGRES_UPDATE_STATUS_FROM_PREVIOUS + VERSION_MATCHES + POSTGRES_RETURNING;
+    private static final String POSTGRES_DELETE =
+        "DELETE FROM task WHERE id = :id RETURNING " + COLUMNS;
+    // OLD TABLE gives the row as it was; the new state only differs by the status and version set above.
+    private static final String H2_UPDATE_STATUS = "SELECT " + COLUMNS + " FROM OLD TABLE (" + UPDATE_STATUS + ")";
+    private static final String H2_UPDATE_STATUS_IF_VERSION =
+        "SELECT " + COLUMNS + " FROM OLD TABLE (" + UPDATE_STATUS + VERSION_MATCHES + ")";
+    private static final String H2_DELETE =
+        "SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM task WHERE id = :id)";
+
+    private static final String UPDATE_STATUS_BY_IDS =
+        "UPDATE task SET status = :status, version = version + 1 WHERE id IN (:ids)";
+    private static final String DELETE_BY_IDS = "DELETE FROM task WHERE id IN (:ids)";
+    private static final String POSTGRES_UPDATE_STATUS_BY_IDS = UPDATE_STATUS_BY_IDS + " RETURNING id";
+    private static final String POSTGRES_DELETE_BY_IDS = DELETE_BY_IDS + " RETURNING id";
+    private static final String H2_UPDATE_STATUS_BY_IDS = "SELECT id FROM OLD TABLE (" + UPDATE_STATUS_BY_IDS + ")";
+    private static final String H2_DELETE_BY_IDS = "SELECT id FROM OLD TABLE (" + DELETE_BY_IDS + ")";
+
+    // Shared with the other SQL written by hand against the task table, which all read the status as its code.
+    static final RowMapper<TaskDTO> TASK_DTO_ROW_MAPPER = (rs, rowNum) -> new TaskDTO(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("description"),
+        TaskStatus.fromCode(rs.getShort("status")).name(),
+        rs.getObject("due_datetime", LocalDateTime.class),
+        rs.getLong("version")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    TaskReturningRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TaskStatusChangeDTO> updateStatusReturning(Long id, String status, Long expectedVersion) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", id)
+            .addValue("status", TaskStatus.fromName(status).getCode());
+        if (expectedVersion != null) {
+            parameters.addValue("version", expectedVersion);
+        }
+        if (isPostgres()) {
+            String sql = expectedVersion == null ? POSTGRES_UPDATE_STATUS : POSTGRES_UPDATE_STATUS_IF_VERSION;
+            return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> new TaskStatusChangeDTO(
+                TASK_DTO_ROW_MAPPER.mapRow(rs, rowNum),
+                TaskStatus.fromCode(rs.getShort("previous_status")).name()
+            )).stream().findFirst();
+        }
+        return single(expectedVersion == null ? H2_UPDATE_STATUS : H2_UPDATE_STATUS_IF_VERSION, parameters)
+            .map(previous -> new TaskStatusChangeDTO(
+                new TaskDTO(
+                    previous.getId(),
+                    previous.getTitle(),
+                    previous.getDescription(),
+                    status,
+                    previous.getDueDatetime(),
+                    previous.getVersion() + 1
+                ),
+                previous.getStatus()
+            ));
+    }
+
+    @Override
+    public Optional<TaskDTO> deleteReturning(Long id) {
+        return single(isPostgres() ? POSTGRES_DELETE : H2_DELETE, new MapSqlParameterSource("id", id));
+    }
+
+    @Override
+    public List<Long> updateStatusByIdInReturningIds(Collection<Long> ids, String status) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids)
+            .addValue("status", TaskStatus.fromName(status).getCode());
+        return jdbcTemplate.queryForList(
+            isPostgres() ? POSTGRES_UPDATE_STATUS_BY_IDS : H2_UPDATE_STATUS_BY_IDS, parameters, Long.class
+        );
+    }
+
+    @Override
+    public List<Long> deleteByIdInReturningIds(Collection<Long> ids) {
+        return jdbcTemplate.queryForList(
+            isPostgres() ? POSTGRES_DELETE_BY_IDS : H2_DELETE_BY_IDS, new MapSqlParameterSource("ids", ids), Long.class
+        );
+    }
+
+    private Optional<TaskDTO> single(String sql, MapSqlParameterSource parameters) {
+        List<TaskDTO> rows = jdbcTemplate.query(sql, parameters, TASK_DTO_ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = DatabasePlatform.isPostgres(jdbcTemplate.getJdbcTemplate().getDataSource());
+            postgres = result;
+        }
+        return result;
+    }
+}
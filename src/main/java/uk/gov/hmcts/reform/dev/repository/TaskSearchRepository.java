@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+
+import java.util.List;
+
+/**
+ * Full-text search over task titles and descriptions, best match first. Ranked results aren't in id order, so
+ * pages are taken by offset rather than after an id.
+ */
+public interface TaskSearchRepository {
+
+    List<TaskDTO> searchPage(String query, long offset, int limit);
+}
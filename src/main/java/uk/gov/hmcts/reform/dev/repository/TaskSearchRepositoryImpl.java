@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * On PostgreSQL, matches the query against the search_vector column the V3 migration adds, so words are
+ * stemmed and the query can use web search syntax (quoted phrases, OR, -word), and ranks by ts_rank. H2, which
+ * the functional tests run against, has no text search, so there every word of the query has to appear in the
+ * title or description, and tasks matching more of the words in their title come first.
+ */
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private static final String PAGE = " OFFSET :offset ROWS FETCH FIRST :limit ROWS ONLY";
+
+    private static final String POSTGRES_SEARCH = "SELECT " + TaskReturningRepositoryImpl.COLUMNS
+        + " FROM task, websearch_to_tsquery('english', :query) query"
+        + " WHERE search_vector @@ query"
+        + " ORDER BY ts_rank(search_vector, query) DESC, id" + PAGE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    TaskSearchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskDTO> searchPage(String query, long offset, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("offset", offset).addValue("limit", limit);
+        if (isPostgres()) {
+            return jdbcTemplate.query(
+                POSTGRES_SEARCH,
+                parameters.addValue("query", query),
+                TaskReturningRepositoryImpl.TASK_DTO_ROW_MAPPER
+            );
+        }
+
+        String[] words = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        List<String> matches = new ArrayList<>();
+        List<String> titleMatches = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            String word = ":word" + i;
+            matches.add("(LOWER(title) LIKE " + word + " ESCAPE '\\' OR LOWER(description) LIKE " + word
+                + " ESCAPE '\\')");
+            titleMatches.add("CASE WHEN LOWER(title) LIKE " + word + " ESCAPE '\\' THEN 1 ELSE 0 END");
+            parameters.addValue("word" + i, "%" + escapeLike(words[i]) + "%");
+        }
+        String sql = "SELECT " + TaskReturningRepositoryImpl.COLUMNS + " FROM task"
+            + " WHERE " + String.join(" AND ", matches)
+            + " ORDER BY " + String.join(" + ", titleMatches) + " DESC, id" + PAGE;
+        return jdbcTemplate.query(sql, parameters, TaskReturningRepositoryImpl.TASK_DTO_ROW_MAPPER);
+    }
+
+    private static String escapeLike(String word) {
+        return word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = DatabasePlatform.isPostgres(jdbcTemplate.getJdbcTemplate().getDataSource());
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds task queries containing only the predicates that were actually requested, so that each
+ * combination of filters gets its own SQL and can use the matching index.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> pageAfter(long afterId, Collection<String> statuses,
+                                                LocalDateTime dueFrom, LocalDateTime dueTo) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.greaterThan(root.get("id"), afterId));
+            predicates.addAll(filters(root, builder, statuses, dueFrom, dueTo));
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * The tasks a bulk update or delete selects by status and due date. Never given a query, so it doesn't use one.
+     */
+    public static Specification<Task> matching(String status, LocalDateTime dueFrom, LocalDateTime dueTo) {
+        return (root, query, builder) -> builder.and(
+            filters(root, builder, status == null ? null : List.of(status), dueFrom, dueTo).toArray(new Predicate[0])
+        );
+    }
+
+    private static List<Predicate> filters(Root<Task> root, CriteriaBuilder builder, Collection<String> statuses,
+                                           LocalDateTime dueFrom, LocalDateTime dueTo) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (statuses != null && statuses.size() == 1) {
+            predicates.add(builder.equal(root.get("status"), statuses.iterator().next()));
+        } else if (statuses != null && !statuses.isEmpty()) {
+            predicates.add(root.get("status").in(statuses));
+        }
+        if (dueFrom != null) {
+            predicates.add(builder.greaterThanOrEqualTo(root.get("dueDatetime"), dueFrom));
+        }
+        if (dueTo != null) {
+            predicates.add(builder.lessThan(root.get("dueDatetime"), dueTo));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.repository.ReactiveTaskRepository;
+
+/**
+ * The reactive profile's counterpart to TaskManagementService, with the same rules and errors for the endpoints
+ * the reactive stack serves.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskManagementService {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    public ReactiveTaskManagementService(ReactiveTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    public Mono<TaskDTO> getTaskById(Long id) {
+        return taskRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    public Mono<TaskPageDTO> getAllTasks(TaskQueryDTO query) {
+        return Mono.defer(() -> {
+            int limit = TaskQueries.pageLimit(query);
+            return taskRepository.findPageAfter(
+                    TaskCursor.decode(query.getAfter()),
+                    TaskQueries.statuses(query),
+                    query.getDueFrom(),
+                    query.getDueTo(),
+                    limit + 1
+                )
+                .collectList()
+                .flatMap(results -> results.isEmpty() && query.getAfter() == null
+                    ? Mono.<TaskPageDTO>error(TaskQueries.noTasksFound(query))
+                    : Mono.just(TaskQueries.toPage(results, limit)));
+        });
+    }
+
+    /**
+     * Every task matching the query, or the first limit of them when a limit is given, emitted as rows arrive.
+     * Rows are only fetched as fast as the subscriber asks for them.
+     */
+    public Flux<TaskDTO> streamTasks(TaskQueryDTO query) {
+        return Flux.defer(() -> {
+            if (query.getLimit() != null && query.getLimit() < 1) {
+                return Flux.error(new InvalidRequestException("limit must be at least 1."));
+            }
+            return taskRepository.findPageAfter(
+                TaskCursor.decode(query.getAfter()),
+                TaskQueries.statuses(query),
+                query.getDueFrom(),
+                query.getDueTo(),
+                query.getLimit()
+            );
+        });
+    }
+
+    public Mono<TaskDTO> createTask(CreateTaskDTO createTaskDTO) {
+        Task newTask = new Task();
+        newTask.setTitle(createTaskDTO.getTitle());
+        newTask.setDescription(createTaskDTO.getDescription());
+        newTask.setStatus(createTaskDTO.getStatus());
+        newTask.setDueDatetime(createTaskDTO.getDueDatetime());
+        return taskRepository.insert(newTask);
+    }
+
+    public Mono<TaskDTO> updateTask(Long id, UpdateTaskDTO taskUpdateDTO, Long expectedVersion) {
+        return Mono.defer(() -> taskRepository.updateStatusReturning(
+                id, TaskQueries.checkStatus(taskUpdateDTO.getStatus()), expectedVersion
+            ))
+            .switchIfEmpty(Mono.defer(() -> expectedVersion == null
+                ? Mono.<TaskDTO>error(new TaskNotFoundException(id))
+                : taskRepository.existsById(id).flatMap(exists -> Mono.<TaskDTO>error(exists
+                    ? new TaskVersionMismatchException(id)
+                    : new TaskNotFoundException(id)))));
+    }
+
+    public Mono<TaskDTO> deleteTask(Long id) {
+        return taskRepository.deleteReturning(id)
+            .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the position of a task page as an opaque string so clients don't depend on it being a task id.
+ * Keyset pages carry the last id; ranked search results, which aren't in id order, carry how many results
+ * came before.
+ */
+final class TaskCursor {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "offset:";
+
+    private TaskCursor() {
+    }
+
+    static String encode(long lastId) {
+        return encode(ID_PREFIX, lastId);
+    }
+
+    static long decode(String cursor) {
+        return decode(ID_PREFIX, cursor);
+    }
+
+    static String encodeOffset(long offset) {
+        return encode(OFFSET_PREFIX, offset);
+    }
+
+    static long decodeOffset(String cursor) {
+        return decode(OFFSET_PREFIX, cursor);
+    }
+
+    private static String encode(String prefix, long value) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(prefix)) {
+                long value = Long.parseLong(decoded.substring(prefix.length()));
+                if (value >= 0) {
+                    return value;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the exception below, NumberFormatException included.
+        }
+        throw new InvalidRequestException("Invalid cursor: " + cursor);
+    }
+}
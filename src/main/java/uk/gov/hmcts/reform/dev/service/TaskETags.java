@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskVersionDTO;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ETags for tasks and pages. A task's ETag is its id and version. A page's ETag is a digest of the id and version
+ * of every task on it plus whether another page follows, which changes whenever any task on the page is
+ * updated, added or removed.
+ *
+ * <p>A task's ETag is strong, as If-Match needs one. A strong ETag has to differ between representations that
+ * aren't the same bytes, so ETags sent with a binary body are tagged with its format, e.g. "7.2+cbor". Every
+ * format changes along with the task, so any of them can be sent back in If-None-Match or If-Match.
+ *
+ * <p>A page's ETag is weak, e.g. W/"p1f...", since pages are only ever checked with If-None-Match. It stands for
+ * the page in any format or content coding, which lets Tomcat gzip the response; it leaves strong ETags alone.
+ */
+public final class TaskETags {
+
+    private static final String ANY = "*";
+    private static final int DIGEST_BYTES = 16;
+
+    private TaskETags() {
+    }
+
+    public static String forTask(TaskDTO task) {
+        return forTask(task.getId(), task.getVersion());
+    }
+
+    public static String forTask(long id, long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    public static String forPage(TaskPageDTO page) {
+        List<TaskVersionDTO> versions = page.getTasks().stream()
+            .map(task -> new TaskVersionDTO(task.getId(), task.getVersion()))
+            .toList();
+        return forPage(versions, page.getNextCursor() != null);
+    }
+
+    static String forPage(List<TaskVersionDTO> tasks, boolean hasNextPage) {
+        ByteBuffer buffer = ByteBuffer.allocate(tasks.size() * 2 * Long.BYTES + 1);
+        for (TaskVersionDTO task : tasks) {
+            buffer.putLong(task.getId()).putLong(task.getVersion());
+        }
+        buffer.put((byte) (hasNextPage ? 1 : 0));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return "W/\"p" + HexFormat.of().formatHex(digest, 0, DIGEST_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+    }
+
+    public static String withFormat(String etag, String format) {
+        return etag.substring(0, etag.length() - 1) + "+" + format + "\"";
+    }
+
+    /**
+     * The ETag to check If-None-Match against: the current one, tagged with the format of the ETag the client
+     * sent for it, if it sent one, so that a client holding any format of the current version gets a 304.
+     */
+    public static String inFormatSent(String ifNoneMatch, String etag) {
+        if (ifNoneMatch != null) {
+            for (String sent : ifNoneMatch.split(",")) {
+                if (withoutFormat(sent.trim()).equals(etag)) {
+                    return sent.trim();
+                }
+            }
+        }
+        return etag;
+    }
+
+    static String withoutFormat(String etag) {
+        int plus = etag.lastIndexOf('+');
+        if (plus < 0 || plus + 1 >= etag.length() - 1 || !etag.endsWith("\"")) {
+            return etag;
+        }
+        for (int i = plus + 1; i < etag.length() - 1; i++) {
+            if (!Character.isLetter(etag.charAt(i))) {
+                return etag;
+            }
+        }
+        return etag.substring(0, plus) + "\"";
+    }
+
+    /**
+     * Reads the version a client expects from an If-Match header holding one of this task's ETags.
+     *
+     * @return null when there is no header or it is "*", meaning any version
+     * @throws TaskVersionMismatchException if the header isn't a strong ETag for this task
+     */
+    public static Long expectedVersion(String ifMatch, long id) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String etag = withoutFormat(ifMatch.trim());
+        String prefix = "\"" + id + ".";
+        if (etag.startsWith(prefix) && etag.endsWith("\"") && etag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(etag.substring(prefix.length(), etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Falls through to the exception below.
+            }
+        }
+        throw new TaskVersionMismatchException("If-Match must be an ETag returned for the task with id: " + id);
+    }
+}
@@ -0,0 +1,198 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory bitmap of every task id that exists, used to answer lookups for ids that definitely don't exist
+ * without going to the database. It can only err towards "might exist": ids are added before the insert
+ * commits and removed after the delete does, and until the first build finishes every id might exist. An id
+ * added inside a transaction is added again once it commits, in case a rebuild read the table before then and
+ * swapped in a bitmap without it; writes made outside a transaction use rebuildsStarted() to catch the same.
+ *
+ * <p>Only this instance's writes are seen between rebuilds, so on a deployment with several instances a task
+ * created elsewhere would 404 here until the next rebuild. It is off unless TASK_ID_FILTER_ENABLED=true, which is
+ * only safe with a single instance.
+ */
+@Component
+@Profile("!reactive")
+public class TaskIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskIdFilter.class);
+
+    private final TaskRepository taskRepository;
+    private final boolean enabled;
+    // A lock rather than synchronized, which would pin a virtual thread's carrier for the whole scan.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong rebuildsStarted = new AtomicLong();
+
+    private volatile Bitmap current;
+    // Non-null while a rebuild is running, so writes made during the scan aren't lost when it is swapped in.
+    private volatile Bitmap building;
+
+    public TaskIdFilter(TaskRepository taskRepository,
+                        @Value("${task.id-filter.enabled:false}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean mightExist(long id) {
+        Bitmap bitmap = current;
+        return bitmap == null || bitmap.get(id);
+    }
+
+    public void add(long id) {
+        set(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            CommittedIds committed = (CommittedIds) TransactionSynchronizationManager.getResource(this);
+            if (committed == null) {
+                committed = new CommittedIds();
+                TransactionSynchronizationManager.bindResource(this, committed);
+                TransactionSynchronizationManager.registerSynchronization(committed);
+            }
+            committed.ids.add(id);
+        }
+    }
+
+    private void set(long id) {
+        Bitmap bitmap = building;
+        if (bitmap != null) {
+            bitmap.set(id);
+        }
+        bitmap = current;
+        if (bitmap != null) {
+            bitmap.set(id);
+        }
+    }
+
+    public void remove(long id) {
+        Bitmap bitmap = building;
+        if (bitmap != null) {
+            bitmap.clear(id);
+        }
+        bitmap = current;
+        if (bitmap != null) {
+            bitmap.clear(id);
+        }
+    }
+
+    /**
+     * Rebuilds the bitmap from the task table, first at startup and then periodically so that any drift, such as
+     * ids left behind by filter-based bulk deletes, is corrected.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${task.id-filter.rebuild-interval:PT15M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        rebuildsStarted.incrementAndGet();
+        Bitmap bitmap = new Bitmap();
+        building = bitmap;
+        try (Stream<Long> ids = taskRepository.streamAllIds()) {
+            ids.forEach(bitmap::set);
+            current = bitmap;
+            logger.info("Task id filter rebuilt, highest id " + bitmap.highestId());
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * How many rebuilds have started. A write made outside a transaction, whose ids can't be added again on
+     * commit, compares this before and after it to know whether a rebuild may have read the table before the
+     * write committed, and so needs running again.
+     */
+    public long rebuildsStarted() {
+        return rebuildsStarted.get();
+    }
+
+    /**
+     * The ids added in one transaction, set again once it commits.
+     */
+    private final class CommittedIds implements TransactionSynchronization {
+        private final List<Long> ids = new ArrayList<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskIdFilter.this);
+            if (status == STATUS_COMMITTED) {
+                ids.forEach(TaskIdFilter.this::set);
+            }
+        }
+    }
+
+    /**
+     * Growable bitmap with lock-free reads. Writers synchronize so that growing the word array can't lose bits.
+     */
+    private static final class Bitmap {
+        private static final int INITIAL_WORDS = 1024;
+
+        private volatile AtomicLongArray words = new AtomicLongArray(INITIAL_WORDS);
+        private long highestId;
+
+        boolean get(long id) {
+            AtomicLongArray snapshot = words;
+            long index = id >>> 6;
+            if (id < 0) {
+                return false;
+            }
+            if (index > Integer.MAX_VALUE - 8) {
+                return true;
+            }
+            if (index >= snapshot.length()) {
+                return false;
+            }
+            return (snapshot.get((int) index) & (1L << id)) != 0;
+        }
+
+        synchronized void set(long id) {
+            long index = id >>> 6;
+            if (id < 0 || index > Integer.MAX_VALUE - 8) {
+                return;
+            }
+            if (index >= words.length()) {
+                grow((int) index);
+            }
+            words.set((int) index, words.get((int) index) | (1L << id));
+            highestId = Math.max(highestId, id);
+        }
+
+        synchronized void clear(long id) {
+            long index = id >>> 6;
+            if (id >= 0 && index < words.length()) {
+                words.set((int) index, words.get((int) index) & ~(1L << id));
+            }
+        }
+
+        synchronized long highestId() {
+            return highestId;
+        }
+
+        private void grow(int minIndex) {
+            int length = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(minIndex + 1L, words.length() * 2L));
+            AtomicLongArray grown = new AtomicLongArray(length);
+            for (int i = 0; i < words.length(); i++) {
+                grown.set(i, words.get(i));
+            }
+            words = grown;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.service;
+
+public enum TaskImportFormat {
+    // Header row of title,description,status,dueDatetime followed by one task per row.
+    CSV,
+    // One CreateTaskDTO JSON object per line.
+    NDJSON
+}
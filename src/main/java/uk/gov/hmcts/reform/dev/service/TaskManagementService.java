@@ -1,77 +1,636 @@
 package uk.gov.hmcts.reform.dev.service;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.configuration.CacheConfig;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.BulkCreateResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkItemErrorDTO;
+import uk.gov.hmcts.reform.dev.models.BulkOperationResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkUpdateTaskStatusDTO;
 import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBatchDTO;
 import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskImportResultDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.TaskSelectionDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatsDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatusChangeDTO;
+import uk.gov.hmcts.reform.dev.models.TaskVersionDTO;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskCopyRepository;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
 
+/**
+ * Every public method is timed as task.service, and its failures counted as task.service.failures, each tagged
+ * with the method and, for failures, the exception, so not-found and invalid requests show up per method.
+ */
 @Service
+@Profile("!reactive")
+@Timed(value = "task.service", description = "Time taken by TaskManagementService methods")
+@Counted(value = "task.service.failures", recordFailuresOnly = true,
+    description = "TaskManagementService calls that threw, such as for a missing task or an invalid request")
 public class TaskManagementService {
 
+    public static final int MAX_BULK_CREATE_SIZE = 5000;
+    public static final int MAX_REPORTED_IMPORT_ERRORS = 100;
+    public static final int MAX_BULK_IDS = 10000;
+
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    // Ids per IN list when reading many tasks; larger requests are split into a few queries of this size.
+    private static final int READ_BATCH_SIZE = 1000;
+    private static final CsvSchema IMPORT_CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+    // Several JDBC batches per flush; the persistence context is cleared after each chunk.
+    private static final int BULK_CREATE_CHUNK_SIZE = Task.ID_ALLOCATION_SIZE * 10;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TaskCopyRepository taskCopyRepository;
+    private final TaskIdFilter taskIdFilter;
+    private final TaskStatistics taskStatistics;
+    private final TaskPageSnapshot taskPageSnapshot;
+    // Ignores columns it doesn't know, as Boot's ObjectMapper does for NDJSON rows, rather than rejecting every row.
+    private final ObjectMapper csvMapper = new CsvMapper()
+        .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .findAndRegisterModules();
 
-    public TaskManagementService(TaskRepository taskRepository) {
+    public TaskManagementService(TaskRepository taskRepository, EntityManager entityManager,
+                                 ObjectMapper objectMapper, Validator validator,
+                                 TaskCopyRepository taskCopyRepository, TaskIdFilter taskIdFilter,
+                                 TaskStatistics taskStatistics, TaskPageSnapshot taskPageSnapshot) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.taskCopyRepository = taskCopyRepository;
+        this.taskIdFilter = taskIdFilter;
+        this.taskStatistics = taskStatistics;
+        this.taskPageSnapshot = taskPageSnapshot;
     }
 
+    /**
+     * Ids the filter knows don't exist are answered with a 404 straight away, without querying the database.
+     * The read paths select straight into DTOs, so no entity is loaded, snapshotted for dirty checking or
+     * flushed just to be copied. Single-query reads run in auto-commit mode, for the same reason as updateTask.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskDTO getTaskById(Long id) {
-        Task task = taskRepository.findTaskById(id);
-        if (task != null) {
-            return task.toDTO();
-        } else {
+        if (!taskIdFilter.mightExist(id)) {
             throw new TaskNotFoundException(id);
         }
+        return taskRepository.findByIdAsDTO(id)
+            .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    /**
+     * Loads many tasks by id with one IN query per READ_BATCH_SIZE ids, rather than a query per task.
+     */
+    @Transactional(readOnly = true)
+    public TaskBatchDTO getTasksByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new InvalidRequestException("ids must be a non-empty list of task ids.");
+        }
+        List<Long> requestedIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (requestedIds.size() > MAX_BULK_IDS) {
+            throw new InvalidRequestException("No more than " + MAX_BULK_IDS + " ids can be requested at once.");
+        }
+
+        Map<Long, TaskDTO> found = new HashMap<>();
+        for (int from = 0; from < requestedIds.size(); from += READ_BATCH_SIZE) {
+            List<Long> batch = requestedIds.subList(from, Math.min(from + READ_BATCH_SIZE, requestedIds.size()));
+            taskRepository.findByIdInAsDTOs(batch).forEach(task -> found.put(task.getId(), task));
+        }
+
+        List<TaskDTO> tasks = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            TaskDTO task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new TaskBatchDTO(tasks, missingIds);
+    }
+
+    public TaskPageDTO getAllTasks(TaskQueryDTO query) {
+        int limit = TaskQueries.pageLimit(query);
+
+        // Fetch one extra row so we know whether another page exists without a second query.
+        List<TaskDTO> results = taskRepository.findPageAfter(
+            TaskCursor.decode(query.getAfter()),
+            TaskQueries.statuses(query),
+            query.getDueFrom(),
+            query.getDueTo(),
+            limit + 1
+        );
+
+        if (results.isEmpty() && query.getAfter() == null) {
+            throw TaskQueries.noTasksFound(query);
+        }
+        return TaskQueries.toPage(results, limit);
+    }
+
+    /**
+     * The pre-serialized page to write for the query instead of calling getAllTasks, or null when there isn't
+     * one; see TaskPageSnapshot.
+     */
+    public TaskPageSnapshot.Snapshot getAllTasksSnapshot(TaskQueryDTO query) {
+        return taskPageSnapshot.forQuery(query);
+    }
+
+    /**
+     * Tasks that aren't done or closed and whose due date has passed, in id order. Served from a partial index
+     * over the non-terminal statuses, so the cost follows the number of open tasks rather than the table size.
+     */
+    public TaskPageDTO getOverdueTasks(String after, Integer requestedLimit) {
+        int limit = TaskQueries.pageLimit(requestedLimit);
+        List<TaskDTO> results = taskRepository.findOverduePageAfter(
+            TaskCursor.decode(after),
+            LocalDateTime.now(),
+            limit + 1
+        );
+
+        if (results.isEmpty() && after == null) {
+            throw new TaskNotFoundException("No tasks are overdue.");
+        }
+        return TaskQueries.toPage(results, limit);
+    }
+
+    /**
+     * A page of the tasks whose title or description matches the query, best match first. The cursor holds how
+     * many results came before the page, as ranked results can't be paged after an id.
+     */
+    public TaskPageDTO searchTasks(String query, String after, Integer requestedLimit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("A search query is required.");
+        }
+        int limit = TaskQueries.pageLimit(requestedLimit);
+        long offset = TaskCursor.decodeOffset(after);
+        List<TaskDTO> results = taskRepository.searchPage(query, offset, limit + 1);
+
+        if (results.isEmpty() && after == null) {
+            throw new TaskNotFoundException("No tasks match the search.");
+        }
+        if (results.size() > limit) {
+            return new TaskPageDTO(results.subList(0, limit), TaskCursor.encodeOffset(offset + limit));
+        }
+        return new TaskPageDTO(results, null);
+    }
+
+    /**
+     * Counts of tasks by status and by when they're due, from the in-memory counters in TaskStatistics.
+     */
+    public TaskStatsDTO getTaskStats() {
+        return taskStatistics.getStats();
     }
 
-    public List<TaskDTO> getAllTasks() {
-        List<TaskDTO> results = taskRepository.findAll()
-            .stream()
-            .map(Task::toDTO)
-            .toList();
+    /**
+     * The ETag getAllTasks would currently return for the query, worked out from the ids and versions of the
+     * page alone.
+     */
+    public String getAllTasksETag(TaskQueryDTO query) {
+        int limit = TaskQueries.pageLimit(query);
+        List<TaskVersionDTO> results = taskRepository.findPageVersionsAfter(
+            TaskCursor.decode(query.getAfter()),
+            TaskQueries.statuses(query),
+            query.getDueFrom(),
+            query.getDueTo(),
+            limit + 1
+        );
 
-        if (results.isEmpty()) {
-            throw new TaskNotFoundException("No tasks exist.");
+        if (results.isEmpty() && query.getAfter() == null) {
+            throw TaskQueries.noTasksFound(query);
         }
+        return TaskETags.forPage(results.subList(0, Math.min(limit, results.size())), results.size() > limit);
+    }
 
-        return results;
+    /**
+     * Writes every task to the output stream as newline-delimited JSON, one row at a time. Rows are selected
+     * straight into DTOs, so the persistence context stays empty however many rows are exported.
+     *
+     * @return the number of tasks written
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Stream<TaskDTO> tasks = taskRepository.streamAllAsDTOs();
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            // The servlet container owns the response stream, so only flush it when the generator closes.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (TaskDTO task : (Iterable<TaskDTO>) tasks::iterator) {
+                generator.writeObject(task);
+                generator.writeRaw('\n');
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
     }
 
+    /**
+     * The new id is added to the id filter before the insert commits, so a lookup can never miss a task that
+     * exists.
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id")
     public TaskDTO createTask(CreateTaskDTO createTaskDTO) {
+        TaskDTO created = taskRepository.save(newTask(createTaskDTO)).toDTO();
+        taskIdFilter.add(created.getId());
+        afterCommit(() -> {
+            taskStatistics.created(created);
+            taskPageSnapshot.invalidate();
+        });
+        return created;
+    }
+
+    /**
+     * Validates each item on its own and inserts the valid ones in JDBC batches. Invalid items are reported
+     * back by index and don't stop the rest of the request from being created. New ids can't have stale cache
+     * entries, so the cache is left alone rather than filled with thousands of tasks nobody has read yet.
+     */
+    @Transactional
+    public BulkCreateResultDTO createTasks(List<CreateTaskDTO> createTaskDTOs) {
+        if (createTaskDTOs == null || createTaskDTOs.isEmpty()) {
+            throw new InvalidRequestException("At least one task must be supplied.");
+        }
+        if (createTaskDTOs.size() > MAX_BULK_CREATE_SIZE) {
+            throw new InvalidRequestException(
+                "No more than " + MAX_BULK_CREATE_SIZE + " tasks can be created at once."
+            );
+        }
+
+        List<TaskDTO> created = new ArrayList<>(createTaskDTOs.size());
+        List<BulkItemErrorDTO> errors = new ArrayList<>();
+        List<Task> chunk = new ArrayList<>(BULK_CREATE_CHUNK_SIZE);
+        for (int i = 0; i < createTaskDTOs.size(); i++) {
+            Map<String, String> validationErrors = validate(createTaskDTOs.get(i));
+            if (!validationErrors.isEmpty()) {
+                errors.add(new BulkItemErrorDTO(i, validationErrors));
+                continue;
+            }
+            chunk.add(newTask(createTaskDTOs.get(i)));
+            if (chunk.size() == BULK_CREATE_CHUNK_SIZE) {
+                persistChunk(chunk, created);
+            }
+        }
+        persistChunk(chunk, created);
+        afterCommit(() -> {
+            created.forEach(taskStatistics::created);
+            taskPageSnapshot.invalidate();
+        });
+
+        return new BulkCreateResultDTO(created, errors);
+    }
+
+    /**
+     * Loads an upload of tasks with the same field rules as createTask. Rows are parsed, validated and handed to
+     * COPY one at a time, so the upload is never held in memory. Invalid rows are counted and skipped, and the
+     * valid ones are loaded in a single COPY.
+     */
+    public TaskImportResultDTO importTasks(InputStream inputStream, TaskImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportRowSource rows = format == TaskImportFormat.CSV ? csvRows(reader) : ndjsonRows(reader);
+        ValidImportRows validRows = new ValidImportRows(rows);
+
+        long accepted;
+        long rebuildsStarted = taskIdFilter.rebuildsStarted();
+        try {
+            accepted = taskCopyRepository.copyIn(validRows, taskIdFilter::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (accepted > 0) {
+            // The copy commits on its own, so a rebuild that read the table before then is run again to pick it up.
+            if (taskIdFilter.rebuildsStarted() != rebuildsStarted) {
+                taskIdFilter.rebuild();
+            }
+            taskStatistics.reconcileSoon();
+            taskPageSnapshot.invalidate();
+        }
+        return new TaskImportResultDTO(accepted, validRows.rejected, validRows.errors);
+    }
+
+    private ImportRowSource csvRows(BufferedReader reader) throws IOException {
+        MappingIterator<CreateTaskDTO> rows = csvMapper.readerFor(CreateTaskDTO.class)
+            .with(IMPORT_CSV_SCHEMA)
+            .readValues(reader);
+        return new ImportRowSource() {
+            @Override
+            public boolean hasNext() throws IOException {
+                return rows.hasNextValue();
+            }
+
+            @Override
+            public CreateTaskDTO next() throws IOException {
+                return rows.nextValue();
+            }
+        };
+    }
+
+    private ImportRowSource ndjsonRows(BufferedReader reader) {
+        ObjectReader taskReader = objectMapper.readerFor(CreateTaskDTO.class);
+        return new ImportRowSource() {
+            private String line;
+
+            @Override
+            public boolean hasNext() throws IOException {
+                while (line == null || line.isBlank()) {
+                    line = reader.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public CreateTaskDTO next() throws IOException {
+                String current = line;
+                line = null;
+                return taskReader.readValue(current);
+            }
+        };
+    }
+
+    private interface ImportRowSource {
+        boolean hasNext() throws IOException;
+
+        // Throws JsonProcessingException for a row that can't be parsed, which rejects just that row.
+        CreateTaskDTO next() throws IOException;
+    }
+
+    /**
+     * Yields only the rows that parse and pass validation, keeping a count and a sample of the rejected ones.
+     */
+    private final class ValidImportRows implements Iterator<Task> {
+        private final ImportRowSource rows;
+        private final List<BulkItemErrorDTO> errors = new ArrayList<>();
+        private long rejected;
+        private int index = -1;
+        private Task next;
+
+        ValidImportRows(ImportRowSource rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && rows.hasNext()) {
+                    index++;
+                    Map<String, String> validationErrors;
+                    try {
+                        CreateTaskDTO row = rows.next();
+                        validationErrors = validate(row);
+                        if (validationErrors.isEmpty()) {
+                            next = newTask(row);
+                            break;
+                        }
+                    } catch (JsonProcessingException e) {
+                        validationErrors = Map.of("row", "Malformed row: " + e.getOriginalMessage());
+                    }
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_IMPORT_ERRORS) {
+                        errors.add(new BulkItemErrorDTO(index, validationErrors));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return next != null;
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Task task = next;
+            next = null;
+            return task;
+        }
+    }
+
+    private void persistChunk(List<Task> chunk, List<TaskDTO> created) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        taskRepository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(task -> {
+            taskIdFilter.add(task.getId());
+            created.add(task.toDTO());
+        });
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private Map<String, String> validate(CreateTaskDTO createTaskDTO) {
+        Map<String, String> errors = new HashMap<>();
+        if (createTaskDTO == null) {
+            errors.put("task", "Task is a mandatory item.");
+            return errors;
+        }
+        for (ConstraintViolation<CreateTaskDTO> violation : validator.validate(createTaskDTO)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private Task newTask(CreateTaskDTO createTaskDTO) {
         Task newTask = new Task();
         newTask.setTitle(createTaskDTO.getTitle());
         newTask.setDescription(createTaskDTO.getDescription());
         newTask.setStatus(createTaskDTO.getStatus());
         newTask.setDueDatetime(createTaskDTO.getDueDatetime());
-
-        return taskRepository.save(newTask).toDTO();
+        return newTask;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskDTO deleteTask(Long id) {
-        Task task = taskRepository.findTaskById(id);
-        if (task != null) {
-            taskRepository.delete(task);
-            return task.toDTO();
-        } else {
-            throw new TaskNotFoundException(id);
+        TaskDTO deleted = taskRepository.deleteReturning(id)
+            .orElseThrow(() -> new TaskNotFoundException(id));
+        taskIdFilter.remove(id);
+        taskStatistics.deleted(deleted);
+        taskPageSnapshot.invalidate();
+        return deleted;
+    }
+
+    /**
+     * Runs as a single UPDATE ... RETURNING in auto-commit mode; there's nothing to gain from wrapping one
+     * statement in a transaction other than the extra BEGIN and COMMIT round trips. When an expected version
+     * is given the update only applies to that version, and a second query runs only if it didn't, to tell a
+     * missing task from a changed one.
+     */
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public TaskDTO updateTask(Long id, UpdateTaskDTO taskUpdateDTO, Long expectedVersion) {
+        String status = TaskQueries.checkStatus(taskUpdateDTO.getStatus());
+        TaskStatusChangeDTO change = taskRepository.updateStatusReturning(id, status, expectedVersion)
+            .orElseThrow(() -> expectedVersion != null && taskRepository.existsById(id)
+                ? new TaskVersionMismatchException(id)
+                : new TaskNotFoundException(id));
+        taskStatistics.statusChanged(change.getTask(), change.getPreviousStatus());
+        taskPageSnapshot.invalidate();
+        return change.getTask();
+    }
+
+    /**
+     * Sets the status of every selected task with one UPDATE statement. When tasks are selected by id, the
+     * result reports which of them the statement updated and which it didn't find. The statement doesn't say
+     * what the statuses were before, so a reconciliation of the statistics is scheduled once it commits.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public BulkOperationResultDTO updateTasksStatus(BulkUpdateTaskStatusDTO bulkUpdateDTO) {
+        TaskSelectionDTO selection = checkSelection(bulkUpdateDTO.getSelection());
+        TaskQueries.checkStatus(bulkUpdateDTO.getStatus());
+        afterCommit(this::reconcileAfterBulkWrite);
+        if (selection.getIds() == null) {
+            int affected = taskRepository.updateStatusMatching(
+                bulkUpdateDTO.getStatus(), selection.getStatus(), selection.getDueFrom(), selection.getDueTo()
+            );
+            return new BulkOperationResultDTO(affected, List.of(), List.of());
         }
+
+        Set<Long> ids = new LinkedHashSet<>(selection.getIds());
+        List<Long> matchedIds = taskRepository.updateStatusByIdInReturningIds(ids, bulkUpdateDTO.getStatus());
+        return idSelectionResult(ids, matchedIds);
     }
 
+    /**
+     * Deletes every selected task with one DELETE statement. When tasks are selected by id, the result reports
+     * which of them the statement deleted and which it didn't find. The statistics are reconciled after it
+     * commits, as for updateTasksStatus.
+     */
     @Transactional
-    public TaskDTO updateTask(Long id, UpdateTaskDTO taskUpdateDTO) {
-        Task currentTask = taskRepository.findTaskById(id);
-
-        if (currentTask != null) {
-            currentTask.setStatus(taskUpdateDTO.getStatus());
-            taskRepository.save(currentTask);
-            return currentTask.toDTO();
-        } else {
-            throw new TaskNotFoundException(id);
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public BulkOperationResultDTO deleteTasks(TaskSelectionDTO selection) {
+        checkSelection(selection);
+        afterCommit(this::reconcileAfterBulkWrite);
+        if (selection.getIds() == null) {
+            int affected = taskRepository.deleteMatching(
+                selection.getStatus(), selection.getDueFrom(), selection.getDueTo()
+            );
+            return new BulkOperationResultDTO(affected, List.of(), List.of());
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(selection.getIds());
+        List<Long> matchedIds = taskRepository.deleteByIdInReturningIds(ids);
+        removeFromIdFilterAfterCommit(matchedIds);
+        return idSelectionResult(ids, matchedIds);
+    }
+
+    private void reconcileAfterBulkWrite() {
+        taskStatistics.reconcileSoon();
+        taskPageSnapshot.invalidate();
+    }
+
+    /**
+     * Deleted ids leave the id filter only once the delete has committed; until then the tasks still exist.
+     * Deletes by filter don't know their ids, which stay in the filter until its next rebuild.
+     */
+    private void removeFromIdFilterAfterCommit(List<Long> ids) {
+        afterCommit(() -> ids.forEach(taskIdFilter::remove));
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so nothing is recorded for a write that rolls back.
+     * Outside a transaction the write has already committed, so it runs straight away.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private TaskSelectionDTO checkSelection(TaskSelectionDTO selection) {
+        if (selection == null || (selection.getIds() == null && !selection.hasFilters())) {
+            // Refuse rather than treat an empty selection as "every task".
+            throw new InvalidRequestException("Select tasks either by ids or by status and due date.");
+        }
+        if (selection.getIds() != null && selection.hasFilters()) {
+            throw new InvalidRequestException("Select tasks either by ids or by status and due date, not both.");
+        }
+        if (selection.getIds() != null && (selection.getIds().isEmpty() || selection.getIds().contains(null))) {
+            throw new InvalidRequestException("ids must be a non-empty list of task ids.");
+        }
+        if (selection.getIds() != null && selection.getIds().size() > MAX_BULK_IDS) {
+            throw new InvalidRequestException("No more than " + MAX_BULK_IDS + " ids can be selected at once.");
+        }
+        if (selection.getStatus() != null) {
+            TaskQueries.checkStatus(selection.getStatus());
+        }
+        return selection;
+    }
+
+    private BulkOperationResultDTO idSelectionResult(Set<Long> requestedIds, List<Long> matchedIds) {
+        Set<Long> matched = new HashSet<>(matchedIds);
+        List<Long> orderedMatches = new ArrayList<>(matched.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            if (matched.contains(id)) {
+                orderedMatches.add(id);
+            } else {
+                missingIds.add(id);
+            }
         }
+        return new BulkOperationResultDTO(orderedMatches.size(), orderedMatches, missingIds);
     }
 }
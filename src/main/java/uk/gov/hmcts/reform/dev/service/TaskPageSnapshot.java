@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The first page of /getTasks with no filters, cursor or limit, which is what pollers ask for, kept already
+ * serialized (and gzipped) so it can be written straight to the response. Off unless task.snapshot.enabled.
+ *
+ * <p>Writes only schedule a rebuild, which runs on the task scheduler task.snapshot.debounce after the first of
+ * them, so a burst of writes costs one rebuild rather than one each. The scheduler has a thread for each of its
+ * jobs (spring.task.scheduling.pool.size), so a rebuild doesn't wait behind the id filter scan or a statistics
+ * reconciliation. Readers are never made to wait:
+ * they get the last snapshot built, or go down the normal path if there isn't one or it is older than
+ * task.snapshot.max-staleness. So a poller can see a page up to max-staleness old, including after its own
+ * write.
+ */
+@Component
+@Profile("!reactive")
+public class TaskPageSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPageSnapshot.class);
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final Duration debounce;
+    private final Duration maxStaleness;
+    private final boolean gzip;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    // Rebuilds take turns, so a snapshot is only ever replaced by one read later.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot current;
+
+    public TaskPageSnapshot(TaskRepository taskRepository, ObjectMapper objectMapper, TaskScheduler taskScheduler,
+                            @Value("${task.snapshot.enabled:false}") boolean enabled,
+                            @Value("${task.snapshot.debounce:PT0.2S}") Duration debounce,
+                            @Value("${task.snapshot.max-staleness:PT5S}") Duration maxStaleness,
+                            @Value("${task.snapshot.gzip:true}") boolean gzip) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.debounce = debounce;
+        this.maxStaleness = maxStaleness;
+        this.gzip = gzip;
+    }
+
+    /**
+     * The snapshot to serve for the query, or null when the query isn't the one snapshotted or there's no
+     * snapshot fresh enough, in which case a rebuild is scheduled if one isn't already.
+     */
+    public Snapshot forQuery(TaskQueryDTO query) {
+        if (!enabled || query.getAfter() != null || query.hasFilters()
+            || (query.getLimit() != null && query.getLimit() != TaskQueryDTO.DEFAULT_LIMIT)) {
+            return null;
+        }
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.builtAt.plus(maxStaleness).isBefore(Instant.now())) {
+            scheduleRebuild(Duration.ZERO);
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Called after every write that has committed.
+     */
+    public void invalidate() {
+        if (enabled) {
+            scheduleRebuild(debounce);
+        }
+    }
+
+    void rebuild() {
+        rebuildLock.lock();
+        try {
+            // Cleared before the query, so a write that commits while it runs schedules another rebuild.
+            rebuildScheduled.set(false);
+            // Taken before the query, so the snapshot's age covers everything written while it ran.
+            Instant startedAt = Instant.now();
+            List<TaskDTO> results = taskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1);
+            if (results.isEmpty()) {
+                // Left to the normal path, which answers with a 404.
+                current = null;
+                return;
+            }
+            TaskPageDTO page = TaskQueries.toPage(results, TaskQueryDTO.DEFAULT_LIMIT);
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            current = new Snapshot(json, gzip ? gzip(json) : null, TaskETags.forPage(page), startedAt);
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("Unable to rebuild the /getTasks snapshot", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scheduleRebuild(Duration delay) {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::rebuild, Instant.now().plus(delay));
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static final class Snapshot {
+        private final byte[] json;
+        // Null when task.snapshot.gzip is off.
+        private final byte[] gzipped;
+        private final String etag;
+        // When the query it was built from started.
+        private final Instant builtAt;
+    }
+}
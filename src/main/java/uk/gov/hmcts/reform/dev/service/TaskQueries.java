@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Paging and status rules, shared by the servlet and reactive services so both answer a request the same way.
+ */
+final class TaskQueries {
+
+    private TaskQueries() {
+    }
+
+    static int pageLimit(TaskQueryDTO query) {
+        return pageLimit(query.getLimit());
+    }
+
+    static int pageLimit(Integer requestedLimit) {
+        int limit = requestedLimit == null ? TaskQueryDTO.DEFAULT_LIMIT : requestedLimit;
+        if (limit < 1 || limit > TaskQueryDTO.MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + TaskQueryDTO.MAX_LIMIT + ".");
+        }
+        return limit;
+    }
+
+    /**
+     * Builds the page from up to limit + 1 rows; the extra row only tells us that another page exists.
+     */
+    static TaskPageDTO toPage(List<TaskDTO> results, int limit) {
+        if (results.size() > limit) {
+            List<TaskDTO> page = results.subList(0, limit);
+            return new TaskPageDTO(page, TaskCursor.encode(page.get(limit - 1).getId()));
+        }
+        return new TaskPageDTO(results, null);
+    }
+
+    /**
+     * The statuses a query filters on, each checked to be one the API knows about.
+     */
+    static List<String> statuses(TaskQueryDTO query) {
+        if (query.getStatus() == null) {
+            return null;
+        }
+        query.getStatus().forEach(TaskQueries::checkStatus);
+        return query.getStatus();
+    }
+
+    static String checkStatus(String status) {
+        try {
+            return TaskStatus.fromName(status).name();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        }
+    }
+
+    static TaskNotFoundException noTasksFound(TaskQueryDTO query) {
+        return new TaskNotFoundException(query.hasFilters() ? "No tasks match the given filters." : "No tasks exist.");
+    }
+}
@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.TaskCountDTO;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatsDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory counts of tasks by status, and of unfinished tasks by the day they're due, so the stats endpoint
+ * never has to scan the task table. The service records each write it makes once it has committed. Counters are
+ * LongAdders, so concurrent writers don't contend on a single value.
+ *
+ * <p>Due-date buckets move with the clock rather than with writes, so tasks are counted per day and bucketed
+ * when the stats are read. Writes that don't report the rows they changed (bulk updates and deletes, imports),
+ * and writes made by other instances, are only picked up when the counters are next reconciled against the
+ * table, which also corrects any other drift. The writes that don't report their rows ask for a reconciliation on
+ * the task scheduler task.stats.reconcile-debounce later, so the GROUP BY never runs on a request thread and a
+ * burst of them costs one.
+ */
+@Component
+@Profile("!reactive")
+public class TaskStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatistics.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskScheduler taskScheduler;
+    private final Duration reconcileDebounce;
+    private final AtomicBoolean reconcileScheduled = new AtomicBoolean();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    private volatile Counters current;
+    // Non-null while a reconciliation is running, so writes made during the query aren't lost when it is swapped in.
+    private volatile Counters building;
+
+    public TaskStatistics(TaskRepository taskRepository, TaskScheduler taskScheduler,
+                          @Value("${task.stats.reconcile-debounce:PT1S}") Duration reconcileDebounce) {
+        this.taskRepository = taskRepository;
+        this.taskScheduler = taskScheduler;
+        this.reconcileDebounce = reconcileDebounce;
+    }
+
+    public void created(TaskDTO task) {
+        record(task.getStatus(), task.getDueDatetime(), 1);
+    }
+
+    public void deleted(TaskDTO task) {
+        record(task.getStatus(), task.getDueDatetime(), -1);
+    }
+
+    public void statusChanged(TaskDTO task, String previousStatus) {
+        record(previousStatus, task.getDueDatetime(), -1);
+        record(task.getStatus(), task.getDueDatetime(), 1);
+    }
+
+    /**
+     * Tasks due before today are overdue, and this week runs from tomorrow to Sunday. Done and closed tasks are
+     * only counted by status.
+     */
+    public TaskStatsDTO getStats() {
+        Counters counters = current;
+        if (counters == null) {
+            reconcile();
+            counters = current;
+        }
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = Math.max(0, counters.byStatus[status.ordinal()].sum());
+            byStatus.put(status.name(), count);
+            total += count;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        long overdue = 0;
+        long dueToday = 0;
+        long dueThisWeek = 0;
+        long dueLater = 0;
+        for (Map.Entry<LocalDate, LongAdder> day : counters.activeByDueDate.entrySet()) {
+            long count = day.getValue().sum();
+            if (day.getKey().isBefore(today)) {
+                overdue += count;
+            } else if (day.getKey().isEqual(today)) {
+                dueToday += count;
+            } else if (!day.getKey().isAfter(endOfWeek)) {
+                dueThisWeek += count;
+            } else {
+                dueLater += count;
+            }
+        }
+        Map<String, Long> byDueDate = new LinkedHashMap<>();
+        byDueDate.put("overdue", Math.max(0, overdue));
+        byDueDate.put("today", Math.max(0, dueToday));
+        byDueDate.put("thisWeek", Math.max(0, dueThisWeek));
+        byDueDate.put("later", Math.max(0, dueLater));
+        return new TaskStatsDTO(total, byStatus, byDueDate);
+    }
+
+    /**
+     * Replaces the counters with a GROUP BY over the task table, first at startup and then periodically. A write
+     * that commits just before the query starts but is recorded just after can be counted twice; the next
+     * reconciliation corrects it.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${task.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reconcileLock.lock();
+        Counters counters = new Counters();
+        building = counters;
+        try {
+            for (TaskCountDTO count : taskRepository.countByStatusAndDueDate()) {
+                counters.add(count.getStatus(), count.getDueDate(), count.getCount());
+            }
+            Counters previous = current;
+            current = counters;
+            if (previous != null && !previous.sameStatusCounts(counters)) {
+                logger.info("Task statistics reconciled, status counts corrected");
+            }
+        } finally {
+            building = null;
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules a reconciliation, unless one is already waiting to run. Called once a write the counters can't
+     * follow has committed.
+     */
+    public void reconcileSoon() {
+        if (reconcileScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::runScheduledReconcile, Instant.now().plus(reconcileDebounce));
+        }
+    }
+
+    private void runScheduledReconcile() {
+        // Cleared before the query, so a write that commits while it runs schedules another reconciliation.
+        reconcileScheduled.set(false);
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            logger.warn("Unable to reconcile task statistics", e);
+        }
+    }
+
+    private void record(String status, LocalDateTime dueDatetime, long delta) {
+        LocalDate dueDate = dueDatetime == null ? null : dueDatetime.toLocalDate();
+        // Current is read first: reconcile makes the new counters current before clearing building.
+        Counters counters = current;
+        Counters reconciling = building;
+        if (counters != null) {
+            counters.add(status, dueDate, delta);
+        }
+        if (reconciling != null && reconciling != counters) {
+            reconciling.add(status, dueDate, delta);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder[] byStatus = new LongAdder[TaskStatus.values().length];
+        // Only tasks that aren't in a terminal status; the others are never due.
+        private final ConcurrentHashMap<LocalDate, LongAdder> activeByDueDate = new ConcurrentHashMap<>();
+
+        Counters() {
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] = new LongAdder();
+            }
+        }
+
+        void add(String status, LocalDate dueDate, long delta) {
+            if (status == null) {
+                return;
+            }
+            TaskStatus taskStatus = TaskStatus.fromName(status);
+            byStatus[taskStatus.ordinal()].add(delta);
+            if (!taskStatus.isTerminal() && dueDate != null) {
+                LongAdder day = activeByDueDate.get(dueDate);
+                if (day == null) {
+                    day = activeByDueDate.computeIfAbsent(dueDate, key -> new LongAdder());
+                }
+                day.add(delta);
+            }
+        }
+
+        boolean sameStatusCounts(Counters other) {
+            for (int i = 0; i < byStatus.length; i++) {
+                if (byStatus[i].sum() != other.byStatus[i].sum()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- The same table as the PostgreSQL migration, for the functional tests and benchmarks that run on H2.
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status SMALLINT,
+    due_datetime TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL
+);
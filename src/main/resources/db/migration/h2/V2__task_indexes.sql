@@ -0,0 +1,4 @@
+-- H2 has no partial indexes or text search, so the overdue and search queries scan here.
+CREATE INDEX IF NOT EXISTS idx_task_status_id ON task (status, id);
+CREATE INDEX IF NOT EXISTS idx_task_status_due_datetime ON task (status, due_datetime);
+CREATE INDEX IF NOT EXISTS idx_task_due_datetime ON task (due_datetime);
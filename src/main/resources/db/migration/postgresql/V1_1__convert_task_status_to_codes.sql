@@ -0,0 +1,22 @@
+-- Tasks used to store their status as its name in a varchar column, which is what Hibernate created before
+-- TaskStatusConverter stored TaskStatus codes instead. Reading such a column as codes fails, so it is converted
+-- here, before the application starts. The mapping has to match TaskStatus; TaskStatusTest checks it does.
+-- Any other value stops the migration rather than being lost, so it can be corrected and the migration rerun.
+DO $$
+DECLARE
+    unknown TEXT;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'task' AND column_name = 'status'
+                   AND data_type = 'character varying') THEN
+        SELECT string_agg(DISTINCT status, ', ') INTO unknown FROM task
+        WHERE status NOT IN ('OPEN', 'IN_PROGRESS', 'PENDING', 'DONE', 'CLOSED');
+        IF unknown IS NOT NULL THEN
+            RAISE EXCEPTION 'task.status holds values that are not task statuses: %', unknown;
+        END IF;
+        ALTER TABLE task ALTER COLUMN status TYPE SMALLINT USING CASE status
+            WHEN 'OPEN' THEN 0 WHEN 'IN_PROGRESS' THEN 1 WHEN 'PENDING' THEN 2
+            WHEN 'DONE' THEN 3 WHEN 'CLOSED' THEN 4 END;
+    END IF;
+END
+$$;
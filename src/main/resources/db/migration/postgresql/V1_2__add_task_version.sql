@@ -0,0 +1,3 @@
+-- Tables Hibernate created before tasks had a version have no version column, and V1 leaves existing tables as
+-- they are. With a constant default, adding the column only changes the catalog; no rows are rewritten.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+-- The schema as it stands for new databases. Databases Hibernate's ddl-auto created are brought under Flyway as
+-- they are (see spring.flyway.baseline-version), so both statements leave them alone; V1_1 and V1_2 then bring
+-- their status and version columns up to date. The sequence steps by Task.ID_ALLOCATION_SIZE, the block of ids
+-- Hibernate takes per call.
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status SMALLINT,
+    due_datetime TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL
+);
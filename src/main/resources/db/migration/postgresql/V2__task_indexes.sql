@@ -0,0 +1,11 @@
+-- Built CONCURRENTLY, outside a transaction (see the .conf file), so a large existing table stays writable while
+-- they are built. A build that fails leaves an INVALID index behind, which IF NOT EXISTS would then skip: drop it
+-- before repairing and rerunning the migration.
+
+-- Keyset pages filtered by status seek on (status, id) and read in id order.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_status_id ON task (status, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_status_due_datetime ON task (status, due_datetime);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_due_datetime ON task (due_datetime);
+-- Behind the overdue query: only tasks in a non-terminal status (OPEN, IN_PROGRESS, PENDING), so it stays small
+-- however many tasks are closed. The predicate has to match TaskPageRepositoryImpl.ACTIVE_STATUS_PREDICATE exactly.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_active_due_datetime ON task (due_datetime) WHERE status IN (0, 1, 2);
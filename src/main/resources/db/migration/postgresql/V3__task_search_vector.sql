@@ -0,0 +1,27 @@
+-- The full-text search vector, with title words weighted above description words so they rank higher. It is
+-- added in three steps so that none of them locks a large existing table for long:
+--   V3 adds the column, which without a default only changes the catalog, and a trigger that keeps it up to date
+--      on every insert and on updates of the title or description, whichever path makes them;
+--   V4 fills it in for existing rows, a batch at a time;
+--   V5 indexes it.
+-- A generated column would rewrite the whole table under an exclusive lock instead. Databases where an earlier
+-- release already added search_vector as a generated column keep it, and get no trigger.
+CREATE OR REPLACE FUNCTION task_search_vector() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'task'
+                       AND column_name = 'search_vector') THEN
+        ALTER TABLE task ADD COLUMN search_vector tsvector;
+        CREATE TRIGGER task_search_vector BEFORE INSERT OR UPDATE OF title, description ON task
+            FOR EACH ROW EXECUTE FUNCTION task_search_vector();
+    END IF;
+END
+$$;
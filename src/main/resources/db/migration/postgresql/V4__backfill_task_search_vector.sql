@@ -0,0 +1,18 @@
+-- Fills in search_vector for the rows that existed before V3, committing every 10000 ids so that no row stays
+-- locked for long and the work done survives an interruption. Runs outside a transaction (see the .conf file),
+-- as a DO block can only commit when it isn't inside one. New and updated rows are handled by the trigger.
+DO $$
+DECLARE
+    low BIGINT;
+    high BIGINT;
+BEGIN
+    SELECT min(id), max(id) INTO low, high FROM task WHERE search_vector IS NULL;
+    WHILE low <= high LOOP
+        UPDATE task SET search_vector = setweight(to_tsvector('english', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+        WHERE id >= low AND id < low + 10000 AND search_vector IS NULL;
+        COMMIT;
+        low := low + 10000;
+    END LOOP;
+END
+$$;
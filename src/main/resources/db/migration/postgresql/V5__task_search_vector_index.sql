@@ -0,0 +1,3 @@
+-- Built CONCURRENTLY, outside a transaction (see the .conf file), once V4 has filled the column in. As with V2, a
+-- failed build leaves an INVALID index to drop before rerunning.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search_vector ON task USING GIN (search_vector);
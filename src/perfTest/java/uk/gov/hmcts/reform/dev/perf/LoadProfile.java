@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The load to apply and the budgets it has to meet, read from perf.* system properties so a run can be tuned from
+ * the command line, e.g. ./gradlew perfTest -Dperf.rate=500 -Dperf.mix=GET:80,LIST:20.
+ *
+ * @param rate requests started per second, whether or not earlier ones have finished
+ * @param warmup how long to run the same load before measuring
+ * @param duration how long to measure for
+ * @param mix the relative weight of each operation
+ * @param p99Budget the longest the 99th percentile of all requests may take
+ * @param minThroughput the fewest successful requests per second the run may complete
+ * @param maxErrorRate the largest share of requests that may fail
+ * @param reportDir where the report is written
+ */
+record LoadProfile(double rate, Duration warmup, Duration duration, Map<TaskWorkload.Operation, Integer> mix,
+                   Duration p99Budget, double minThroughput, double maxErrorRate, Path reportDir) {
+
+    static final String DEFAULT_MIX = "GET:50,LIST:20,CREATE:10,UPDATE:15,DELETE:5";
+
+    static LoadProfile fromSystemProperties() {
+        double rate = Double.parseDouble(System.getProperty("perf.rate", "200"));
+        return new LoadProfile(
+            rate,
+            Duration.parse(System.getProperty("perf.warmup", "PT10S")),
+            Duration.parse(System.getProperty("perf.duration", "PT30S")),
+            parseMix(System.getProperty("perf.mix", DEFAULT_MIX)),
+            Duration.ofMillis(Long.parseLong(System.getProperty("perf.p99-budget-ms", "250"))),
+            // By default the service has to keep up with 95% of the arrival rate.
+            Double.parseDouble(System.getProperty("perf.min-throughput", String.valueOf(rate * 0.95))),
+            Double.parseDouble(System.getProperty("perf.max-error-rate", "0")),
+            Path.of(System.getProperty("perf.report-dir", "build/reports/perf"))
+        );
+    }
+
+    static Map<TaskWorkload.Operation, Integer> parseMix(String mix) {
+        Map<TaskWorkload.Operation, Integer> weights = new EnumMap<>(TaskWorkload.Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("perf.mix entries must look like GET:50, not: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("perf.mix weights can't be negative: " + entry);
+            }
+            weights.put(TaskWorkload.Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("perf.mix needs at least one operation with a positive weight");
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+
+    /**
+     * The share of requests that will be of the given operation.
+     */
+    double share(TaskWorkload.Operation operation) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        return mix.getOrDefault(operation, 0) / (double) total;
+    }
+}
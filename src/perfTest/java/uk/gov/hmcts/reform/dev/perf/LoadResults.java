@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms, in microseconds, and failure counts for each operation in one run of the load generator.
+ */
+class LoadResults {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<TaskWorkload.Operation, Histogram> latencies = new EnumMap<>(TaskWorkload.Operation.class);
+    private final Map<TaskWorkload.Operation, LongAdder> failures = new EnumMap<>(TaskWorkload.Operation.class);
+    private long elapsedNanos;
+
+    LoadResults() {
+        for (TaskWorkload.Operation operation : TaskWorkload.Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            failures.put(operation, new LongAdder());
+        }
+    }
+
+    void record(TaskWorkload.Operation operation, long latencyNanos, boolean succeeded) {
+        latencies.get(operation).recordValue(Math.max(0, latencyNanos / 1000));
+        if (!succeeded) {
+            failures.get(operation).increment();
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    Histogram latencies(TaskWorkload.Operation operation) {
+        return latencies.get(operation);
+    }
+
+    Histogram allLatencies() {
+        Histogram all = new Histogram(SIGNIFICANT_DIGITS);
+        latencies.values().forEach(all::add);
+        return all;
+    }
+
+    long failures(TaskWorkload.Operation operation) {
+        return failures.get(operation).sum();
+    }
+
+    long requests() {
+        return allLatencies().getTotalCount();
+    }
+
+    long allFailures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : allFailures() / (double) requests;
+    }
+
+    /**
+     * Successful requests per second, from the first request being due to the last one finishing.
+     */
+    double throughput() {
+        return (requests() - allFailures()) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    double elapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+}
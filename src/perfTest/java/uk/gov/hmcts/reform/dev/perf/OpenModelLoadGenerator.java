@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a fixed rate whatever the service is doing, as independent users would, rather than waiting
+ * for each response before sending the next. Each request's latency is measured from when it was due to start, so
+ * time spent queued behind a slow service counts against it rather than going unrecorded.
+ */
+class OpenModelLoadGenerator {
+
+    // Past this many requests in flight the service has fallen over; later ones are counted as failed, not sent.
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final TaskWorkload workload;
+    private final double rate;
+
+    OpenModelLoadGenerator(TaskWorkload workload, double rate) {
+        this.workload = workload;
+        this.rate = rate;
+    }
+
+    /**
+     * Applies the load for the given duration and waits for every request to finish.
+     *
+     * @param seed picks the sequence of operations, so runs with the same profile send the same requests
+     */
+    LoadResults run(Duration duration, long seed) {
+        long interval = (long) (1_000_000_000L / rate);
+        long requests = duration.toNanos() / interval;
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        LoadResults results = new LoadResults();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long due = start + i * interval;
+                for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                TaskWorkload.Operation operation = workload.next(random);
+                if (!inFlight.tryAcquire()) {
+                    results.record(operation, System.nanoTime() - due, false);
+                    continue;
+                }
+                executor.execute(() -> {
+                    boolean succeeded = false;
+                    try {
+                        succeeded = workload.execute(operation);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        // Counted as a failure below.
+                    } finally {
+                        results.record(operation, System.nanoTime() - due, succeeded);
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        results.finish(System.nanoTime() - start);
+        return results;
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs the mixed workload in LoadProfile against the service on an embedded database, and fails if the p99
+ * latency, throughput or error rate misses its budget. Writes build/reports/perf/task-load.json, which has the
+ * same layout on every run so two versions' reports can be diffed, plus an HdrHistogram percentile distribution
+ * per operation. Run with ./gradlew perfTest.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "logging.level.root=WARN")
+@AutoConfigureTestDatabase
+class TaskLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLoadTest.class);
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void sustainsRateWithinBudgets() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        TaskWorkload workload = new TaskWorkload("http://localhost:" + port, profile.mix());
+        workload.seed(profile);
+
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(workload, profile.rate());
+        generator.run(profile.warmup(), 1L);
+        LoadResults results = generator.run(profile.duration(), 2L);
+
+        Path report = writeReport(profile, results);
+        double p99Millis = results.allLatencies().getValueAtPercentile(99) / MICROS_PER_MILLI;
+        logger.info(String.format(
+            "%.0f req/s offered, %.1f req/s completed, p99 %.1fms, error rate %.4f; report at %s",
+            profile.rate(), results.throughput(), p99Millis, results.errorRate(), report
+        ));
+
+        SoftAssertions budgets = new SoftAssertions();
+        budgets.assertThat(p99Millis).as("p99 latency in ms").isLessThanOrEqualTo(profile.p99Budget().toMillis());
+        budgets.assertThat(results.throughput()).as("throughput in req/s").isGreaterThanOrEqualTo(
+            profile.minThroughput());
+        budgets.assertThat(results.errorRate()).as("error rate").isLessThanOrEqualTo(profile.maxErrorRate());
+        budgets.assertAll();
+    }
+
+    private static Path writeReport(LoadProfile profile, LoadResults results) throws IOException {
+        Files.createDirectories(profile.reportDir());
+
+        Map<String, Object> offered = new LinkedHashMap<>();
+        offered.put("rate", profile.rate());
+        offered.put("warmupSeconds", profile.warmup().toSeconds());
+        offered.put("durationSeconds", profile.duration().toSeconds());
+        offered.put("mix", profile.mix());
+
+        Map<String, Object> budgets = new LinkedHashMap<>();
+        budgets.put("p99Millis", profile.p99Budget().toMillis());
+        budgets.put("minThroughput", profile.minThroughput());
+        budgets.put("maxErrorRate", profile.maxErrorRate());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (TaskWorkload.Operation operation : TaskWorkload.Operation.values()) {
+            Histogram latencies = results.latencies(operation);
+            if (latencies.getTotalCount() > 0) {
+                operations.put(operation.name(), summary(latencies, results.failures(operation)));
+                writeDistribution(profile.reportDir().resolve("task-load-" + operation.name() + ".hgrm"), latencies);
+            }
+        }
+        writeDistribution(profile.reportDir().resolve("task-load-ALL.hgrm"), results.allLatencies());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("offered", offered);
+        report.put("budgets", budgets);
+        report.put("throughput", results.throughput());
+        report.put("errorRate", results.errorRate());
+        report.put("all", summary(results.allLatencies(), results.allFailures()));
+        report.put("operations", operations);
+
+        Path path = profile.reportDir().resolve("task-load.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        return path;
+    }
+
+    private static Map<String, Object> summary(Histogram latencies, long failures) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latencies.getTotalCount());
+        summary.put("failures", failures);
+        summary.put("p50Millis", latencies.getValueAtPercentile(50) / MICROS_PER_MILLI);
+        summary.put("p90Millis", latencies.getValueAtPercentile(90) / MICROS_PER_MILLI);
+        summary.put("p99Millis", latencies.getValueAtPercentile(99) / MICROS_PER_MILLI);
+        summary.put("p999Millis", latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+        summary.put("maxMillis", latencies.getMaxValue() / MICROS_PER_MILLI);
+        return summary;
+    }
+
+    private static void writeDistribution(Path path, Histogram latencies) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path))) {
+            latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The requests the load test sends. Reads and updates go to a fixed set of seeded tasks that are never deleted.
+ * Deletes take tasks from a separate pool, seeded up front and topped up by the creates, so every request is
+ * expected to succeed.
+ */
+class TaskWorkload {
+
+    /**
+     * Each with the status TaskController answers it with when it succeeds.
+     */
+    enum Operation {
+        GET(200), LIST(200), CREATE(200), UPDATE(200), DELETE(204);
+
+        private final int expectedStatus;
+
+        Operation(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+
+        int expectedStatus() {
+            return expectedStatus;
+        }
+    }
+
+    private static final int SEEDED_TASKS = 1000;
+    private static final int CREATE_BATCH_SIZE = 1000;
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "PENDING"};
+    private static final String TASK_JSON =
+        "{\"title\":\"Task %d\",\"description\":\"Created by the load test\",\"status\":\"OPEN\","
+            + "\"dueDatetime\":\"2026-02-10T00:00:00\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private final String baseUrl;
+    private final Operation[] weightedOperations;
+    private final List<Long> stableIds = new ArrayList<>();
+    private final ConcurrentLinkedDeque<Long> deletableIds = new ConcurrentLinkedDeque<>();
+
+    TaskWorkload(String baseUrl, Map<Operation, Integer> mix) {
+        this.baseUrl = baseUrl;
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.weightedOperations = weighted.toArray(Operation[]::new);
+    }
+
+    /**
+     * Creates the tasks the run reads and updates, and enough for its deletes, with some to spare.
+     */
+    void seed(LoadProfile profile) throws IOException, InterruptedException {
+        stableIds.addAll(createTasks(SEEDED_TASKS));
+        double seconds = (profile.warmup().toMillis() + profile.duration().toMillis()) / 1000.0;
+        int deletes = (int) Math.ceil(profile.rate() * seconds * profile.share(Operation.DELETE) * 1.2);
+        for (int remaining = deletes; remaining > 0; remaining -= CREATE_BATCH_SIZE) {
+            deletableIds.addAll(createTasks(Math.min(remaining, CREATE_BATCH_SIZE)));
+        }
+    }
+
+    Operation next(Random random) {
+        return weightedOperations[random.nextInt(weightedOperations.length)];
+    }
+
+    /**
+     * Sends one request for the operation.
+     *
+     * @return whether the service answered with the expected status
+     */
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        int status = switch (operation) {
+            case GET -> send(get("/getTask?id=" + stableId()));
+            case LIST -> send(get("/getTasks"));
+            case CREATE -> create();
+            case UPDATE -> send(json("/updateTaskStatus?id=" + stableId(), "PUT",
+                                     "{\"status\":\"" + randomStatus() + "\"}"));
+            case DELETE -> delete();
+        };
+        return status == operation.expectedStatus();
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+            json("/createTask", "POST", String.format(TASK_JSON, ThreadLocalRandom.current().nextInt())),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() == Operation.CREATE.expectedStatus()) {
+            deletableIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private int delete() throws IOException, InterruptedException {
+        Long id = deletableIds.pollFirst();
+        if (id == null) {
+            throw new IllegalStateException("No tasks left to delete; the seeded pool was too small");
+        }
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/deleteTask?id=" + id)).DELETE().build());
+    }
+
+    private List<Long> createTasks(int count) throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",").append(String.format(TASK_JSON, i));
+        }
+        HttpResponse<String> response = httpClient.send(
+            json("/createTasks", "POST", body.append(']').toString()),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding tasks failed with " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (JsonNode task : objectMapper.readTree(response.body()).get("created")) {
+            ids.add(task.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).build();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private long stableId() {
+        return stableIds.get(ThreadLocalRandom.current().nextInt(stableIds.size()));
+    }
+
+    private static String randomStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+}
@@ -0,0 +1,78 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.filters.ConcurrencyLimitFilter;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void permitIsReleasedAfterEachRequestTest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ZERO, objectMapper);
+
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), response, chain);
+
+            assertEquals(200, response.getStatus());
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    @Test
+    void rejectsWhenNoPermitIsFreeTest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, Duration.ZERO, objectMapper);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals("Service Unavailable", objectMapper.readTree(response.getContentAsString()).get("error").asText());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilCompleteTest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ZERO, objectMapper);
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", "/exportTasks");
+        streaming.setAsyncSupported(true);
+        FilterChain startsAsync = (request, response) -> request.startAsync();
+
+        filter.doFilter(streaming, new MockHttpServletResponse(), startsAsync);
+
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), whileStreaming, new MockFilterChain());
+        assertEquals(503, whileStreaming.getStatus());
+
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+
+        MockHttpServletResponse afterStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), afterStreaming, new MockFilterChain());
+        assertEquals(200, afterStreaming.getStatus());
+    }
+
+    @Test
+    void healthChecksAreNeverHeldBackTest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, Duration.ZERO, objectMapper);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/health");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -0,0 +1,131 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.repository.ReactiveTaskRepository;
+import uk.gov.hmcts.reform.dev.service.ReactiveTaskManagementService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskManagementServiceTest {
+
+    @Mock
+    private ReactiveTaskRepository mockedTaskRepository;
+
+    @InjectMocks
+    private ReactiveTaskManagementService taskManagementService;
+
+    @Test
+    void getTaskByIdReturnsTheTask() {
+        Mockito.when(mockedTaskRepository.findById(1L)).thenReturn(Mono.just(task(1L)));
+
+        assertEquals(1L, taskManagementService.getTaskById(1L).block().getId());
+    }
+
+    @Test
+    void getTaskByIdErrorsWhenTaskIsMissing() {
+        Mockito.when(mockedTaskRepository.findById(1L)).thenReturn(Mono.empty());
+
+        Mono<TaskDTO> result = taskManagementService.getTaskById(1L);
+
+        assertThrows(TaskNotFoundException.class, result::block);
+    }
+
+    @Test
+    void getAllTasksReturnsACursorWhenThereIsAnotherPage() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(2);
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, 3))
+            .thenReturn(Flux.just(task(1L), task(2L), task(3L)));
+
+        TaskPageDTO page = taskManagementService.getAllTasks(query).block();
+
+        assertEquals(2, page.getTasks().size());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAllTasksErrorsWhenThereAreNoTasks() {
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenReturn(Flux.empty());
+
+        Mono<TaskPageDTO> result = taskManagementService.getAllTasks(new TaskQueryDTO());
+
+        assertThrows(TaskNotFoundException.class, result::block);
+    }
+
+    @Test
+    void streamTasksReadsEveryMatchingRowWithoutALimit() {
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, null))
+            .thenReturn(Flux.just(task(1L), task(2L)));
+
+        List<TaskDTO> tasks = taskManagementService.streamTasks(new TaskQueryDTO()).collectList().block();
+
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    void streamTasksRejectsANonPositiveLimit() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(0);
+
+        Flux<TaskDTO> result = taskManagementService.streamTasks(query);
+
+        assertThrows(InvalidRequestException.class, result::blockLast);
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    @Test
+    void updateTaskErrorsWithNotFoundWhenTaskIsMissing() {
+        Mockito.when(mockedTaskRepository.updateStatusReturning(eq(1L), eq("DONE"), isNull()))
+            .thenReturn(Mono.empty());
+
+        Mono<TaskDTO> result = taskManagementService.updateTask(1L, new UpdateTaskDTO("DONE"), null);
+
+        assertThrows(TaskNotFoundException.class, result::block);
+        Mockito.verify(mockedTaskRepository, Mockito.never()).existsById(anyLong());
+    }
+
+    @Test
+    void updateTaskErrorsWithVersionMismatchWhenTaskHasMovedOn() {
+        Mockito.when(mockedTaskRepository.updateStatusReturning(1L, "DONE", 3L)).thenReturn(Mono.empty());
+        Mockito.when(mockedTaskRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        Mono<TaskDTO> result = taskManagementService.updateTask(1L, new UpdateTaskDTO("DONE"), 3L);
+
+        assertThrows(TaskVersionMismatchException.class, result::block);
+    }
+
+    @Test
+    void deleteTaskErrorsWhenTaskIsMissing() {
+        Mockito.when(mockedTaskRepository.deleteReturning(1L)).thenReturn(Mono.empty());
+
+        Mono<TaskDTO> result = taskManagementService.deleteTask(1L);
+
+        assertThrows(TaskNotFoundException.class, result::block);
+    }
+
+    private static TaskDTO task(long id) {
+        return new TaskDTO(id, "Task " + id, null, "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0), 0L);
+    }
+}
@@ -0,0 +1,78 @@
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.filters.SqlStatsFilter;
+import uk.gov.hmcts.reform.dev.repository.SqlStatsListener;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SqlStatsFilterTest {
+
+    private final SqlStatsListener listener = new SqlStatsListener(Duration.ofSeconds(1));
+
+    private void runStatement(String sql, long elapsedMillis, Object result) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMillis);
+        execution.setResult(result);
+        listener.afterQuery(execution, List.of(new QueryInfo(sql)));
+    }
+
+    @Test
+    void countsStatementsRowsAndTimeTest() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(true, 10, Duration.ofSeconds(1), 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            runStatement("update task set status=? where id=?", 3, 1);
+            runStatement("insert into task values (?)", 4, new int[] {1, 1, 1});
+            servletResponse.getOutputStream().write('{');
+            // Run after the response started, so too late for the headers.
+            runStatement("select 1", 1, null);
+        };
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/updateTaskStatus"), response, chain);
+
+        assertEquals("2", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        assertEquals("4", response.getHeader(SqlStatsFilter.ROWS_HEADER));
+        assertEquals("7", response.getHeader(SqlStatsFilter.TIME_HEADER));
+    }
+
+    @Test
+    void addsHeadersWhenNothingIsWrittenTest() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(true, 10, Duration.ofSeconds(1), 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> runStatement("select version from task", 2, null);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), response, chain);
+
+        assertEquals("1", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void noHeadersWhenTurnedOffTest() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(false, 10, Duration.ofSeconds(1), 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> runStatement("select 1", 1, null);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), response, chain);
+
+        assertNull(response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void statementsOutsideRequestsAreIgnoredTest() throws Exception {
+        runStatement("select 1", 1, null);
+        SqlStatsFilter filter = new SqlStatsFilter(true, 10, Duration.ofSeconds(1), 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/getTask"), response, (request, servletResponse) -> { });
+
+        assertEquals("0", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskETagsTest {
+
+    private static TaskDTO task(long id, long version) {
+        return new TaskDTO(id, "Title", null, "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0), version);
+    }
+
+    @Test
+    void taskETagTest() {
+        assertEquals("\"7.2\"", TaskETags.forTask(task(7L, 2L)));
+    }
+
+    @Test
+    void pageETagChangesWithContentTest() {
+        String etag = TaskETags.forPage(new TaskPageDTO(List.of(task(1L, 0L), task(2L, 0L)), null));
+        assertTrue(etag.startsWith("W/\"p"));
+
+        assertEquals(etag, TaskETags.forPage(new TaskPageDTO(List.of(task(1L, 0L), task(2L, 0L)), null)));
+        assertNotEquals(etag, TaskETags.forPage(new TaskPageDTO(List.of(task(1L, 0L), task(2L, 1L)), null)));
+        assertNotEquals(etag, TaskETags.forPage(new TaskPageDTO(List.of(task(1L, 0L), task(3L, 0L)), null)));
+        assertNotEquals(etag, TaskETags.forPage(new TaskPageDTO(List.of(task(1L, 0L), task(2L, 0L)), "next")));
+    }
+
+    @Test
+    void expectedVersionTest() {
+        assertNull(TaskETags.expectedVersion(null, 7L));
+        assertNull(TaskETags.expectedVersion("*", 7L));
+        assertEquals(2L, TaskETags.expectedVersion("\"7.2\"", 7L));
+    }
+
+    @Test
+    void expectedVersionAcceptsFormatTaggedETagTest() {
+        assertEquals(2L, TaskETags.expectedVersion("\"7.2+cbor\"", 7L));
+    }
+
+    @Test
+    void withFormatTest() {
+        assertEquals("\"7.2+cbor\"", TaskETags.withFormat("\"7.2\"", "cbor"));
+    }
+
+    @Test
+    void inFormatSentTest() {
+        assertEquals("\"7.2\"", TaskETags.inFormatSent(null, "\"7.2\""));
+        assertEquals("\"7.2\"", TaskETags.inFormatSent("\"7.1+cbor\"", "\"7.2\""));
+        assertEquals("\"7.2+cbor\"", TaskETags.inFormatSent("\"7.1\", \"7.2+cbor\"", "\"7.2\""));
+        assertEquals("\"7.2+smile\"", TaskETags.inFormatSent("\"7.2+smile\"", "\"7.2\""));
+    }
+
+    @Test
+    void expectedVersionRejectsOtherETagsTest() {
+        assertThrows(TaskVersionMismatchException.class, () -> TaskETags.expectedVersion("\"8.2\"", 7L));
+        assertThrows(TaskVersionMismatchException.class, () -> TaskETags.expectedVersion("W/\"7.2\"", 7L));
+        assertThrows(TaskVersionMismatchException.class, () -> TaskETags.expectedVersion("\"7.x\"", 7L));
+        assertThrows(TaskVersionMismatchException.class, () -> TaskETags.expectedVersion("\"7.\"", 7L));
+    }
+}
@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskIdFilter;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIdFilterTest {
+
+    @Mock
+    private TaskRepository mockedTaskRepository;
+
+    @Test
+    void everyIdMightExistBeforeBuildTest() {
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, true);
+
+        assertTrue(filter.mightExist(1L));
+        assertTrue(filter.mightExist(12345L));
+    }
+
+    @Test
+    void rebuildTest() {
+        Mockito.when(mockedTaskRepository.streamAllIds()).thenReturn(Stream.of(1L, 64L, 1_000_000L));
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, true);
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(1L));
+        assertTrue(filter.mightExist(64L));
+        assertTrue(filter.mightExist(1_000_000L));
+        assertFalse(filter.mightExist(2L));
+        assertFalse(filter.mightExist(65L));
+        assertFalse(filter.mightExist(5_000_000L));
+        assertFalse(filter.mightExist(-1L));
+    }
+
+    @Test
+    void addAndRemoveTest() {
+        Mockito.when(mockedTaskRepository.streamAllIds()).thenReturn(Stream.of(1L));
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, true);
+        filter.rebuild();
+
+        filter.add(200_000L);
+        filter.remove(1L);
+
+        assertTrue(filter.mightExist(200_000L));
+        assertFalse(filter.mightExist(1L));
+    }
+
+    @Test
+    void addDuringRebuildIsKeptTest() {
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, true);
+        Mockito.when(mockedTaskRepository.streamAllIds()).thenReturn(Stream.of(1L, 2L).peek(id -> {
+            if (id == 2L) {
+                filter.add(3L);
+            }
+        }));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(3L));
+    }
+
+    @Test
+    void addBeforeRebuildIsKeptOnCommitTest() {
+        Mockito.when(mockedTaskRepository.streamAllIds()).thenReturn(Stream.of(1L));
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            filter.add(5L);
+            // Reads the table before the insert of 5 has committed.
+            filter.rebuild();
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+            );
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        assertTrue(filter.mightExist(5L));
+        assertFalse(TransactionSynchronizationManager.hasResource(filter));
+    }
+
+    @Test
+    void disabledTest() {
+        TaskIdFilter filter = new TaskIdFilter(mockedTaskRepository, false);
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(42L));
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+}
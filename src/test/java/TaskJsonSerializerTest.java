@@ -0,0 +1,89 @@
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskJsonSerializerTest {
+
+    // Takes the hand-written serializer off TaskDTO, leaving Jackson's reflective bean serializer to compare with.
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveTaskDTO {
+    }
+
+    private static final List<TaskDTO> TASKS = List.of(
+        task(1L, "Title", "desc", LocalDateTime.of(2026, 2, 10, 0, 0, 0)),
+        task(2L, "Quotes \" and \\ and\nnewlines", "Unicode é 😀 \u0001", LocalDateTime.of(2026, 2, 10, 9, 5)),
+        task(3L, "Millis", null, LocalDateTime.of(2026, 12, 31, 23, 59, 59, 120_000_000)),
+        task(4L, "Nanos", "", LocalDateTime.of(1, 1, 1, 0, 0, 0, 1)),
+        task(5L, "Far future", null, LocalDateTime.of(12026, 1, 1, 0, 0, 0)),
+        task(null, null, null, null)
+    );
+
+    private final ObjectMapper mapper = mapper(new ObjectMapper());
+    private final ObjectMapper reflectiveMapper = mapper(new ObjectMapper())
+        .addMixIn(TaskDTO.class, ReflectiveTaskDTO.class);
+
+    private static TaskDTO task(Long id, String title, String description, LocalDateTime dueDatetime) {
+        return new TaskDTO(id, title, description, "OPEN", dueDatetime, 3L);
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void sameBytesAsReflectiveSerializerTest() throws Exception {
+        for (TaskDTO task : TASKS) {
+            assertArrayEquals(reflectiveMapper.writeValueAsBytes(task), mapper.writeValueAsBytes(task));
+        }
+        TaskPageDTO page = new TaskPageDTO(TASKS, "aWQ6NQ");
+        assertArrayEquals(reflectiveMapper.writeValueAsBytes(page), mapper.writeValueAsBytes(page));
+    }
+
+    @Test
+    void fieldOrderAndDateFormatTest() throws Exception {
+        assertEquals(
+            "{\"id\":3,\"title\":\"Millis\",\"description\":null,\"status\":\"OPEN\","
+                + "\"dueDatetime\":\"2026-12-31T23:59:59.12\"}",
+            mapper.writeValueAsString(TASKS.get(2))
+        );
+    }
+
+    @Test
+    void sameBytesWithOtherMapperSettingsTest() throws Exception {
+        ObjectMapper timestamps = new ObjectMapper().findAndRegisterModules();
+        ObjectMapper reflectiveTimestamps = new ObjectMapper().findAndRegisterModules()
+            .addMixIn(TaskDTO.class, ReflectiveTaskDTO.class);
+        ObjectMapper nonNull = mapper(new ObjectMapper()).setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectMapper reflectiveNonNull = mapper(new ObjectMapper())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .addMixIn(TaskDTO.class, ReflectiveTaskDTO.class);
+        ObjectMapper cbor = mapper(new ObjectMapper(new CBORFactory()));
+        ObjectMapper reflectiveCbor = mapper(new ObjectMapper(new CBORFactory()))
+            .addMixIn(TaskDTO.class, ReflectiveTaskDTO.class);
+
+        for (TaskDTO task : TASKS) {
+            assertArrayEquals(reflectiveTimestamps.writeValueAsBytes(task), timestamps.writeValueAsBytes(task));
+            assertArrayEquals(reflectiveNonNull.writeValueAsBytes(task), nonNull.writeValueAsBytes(task));
+            assertArrayEquals(reflectiveCbor.writeValueAsBytes(task), cbor.writeValueAsBytes(task));
+        }
+    }
+
+    @Test
+    void versionIsStillReadTest() throws Exception {
+        TaskDTO task = mapper.readValue("{\"id\":1,\"title\":\"Title\",\"version\":4}", TaskDTO.class);
+
+        assertEquals(4L, task.getVersion());
+    }
+}
@@ -1,24 +1,68 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidRequestException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.BulkCreateResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkOperationResultDTO;
+import uk.gov.hmcts.reform.dev.models.BulkUpdateTaskStatusDTO;
 import uk.gov.hmcts.reform.dev.models.CreateTaskDTO;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBatchDTO;
 import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskImportResultDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.models.TaskSelectionDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusChangeDTO;
+import uk.gov.hmcts.reform.dev.models.TaskVersionDTO;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskCopyRepository;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+import uk.gov.hmcts.reform.dev.service.TaskIdFilter;
+import uk.gov.hmcts.reform.dev.service.TaskImportFormat;
 import uk.gov.hmcts.reform.dev.service.TaskManagementService;
+import uk.gov.hmcts.reform.dev.service.TaskPageSnapshot;
+import uk.gov.hmcts.reform.dev.service.TaskStatistics;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 @ExtendWith(MockitoExtension.class)
 class TaskManagementServiceTest {
@@ -26,15 +70,43 @@ class TaskManagementServiceTest {
     @Mock
     private TaskRepository mockedTaskRepository;
 
+    @Mock
+    private EntityManager mockedEntityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Mock
+    private TaskCopyRepository mockedTaskCopyRepository;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TaskIdFilter mockedTaskIdFilter;
+
+    @Mock
+    private TaskStatistics mockedTaskStatistics;
+
+    @Mock
+    private TaskPageSnapshot mockedTaskPageSnapshot;
+
     @InjectMocks
     private TaskManagementService taskManagementService;
 
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(mockedTaskIdFilter.mightExist(anyLong())).thenReturn(true);
+    }
+
     Task getTestTask() {
         return new Task(
             1L,
             "Test Title",
             "Test Description",
-            "Test Status",
+            "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
     }
@@ -42,7 +114,7 @@ class TaskManagementServiceTest {
     @Test
     void getTaskByIdTest() {
         Task task = getTestTask();
-        Mockito.when(mockedTaskRepository.findTaskById(1L)).thenReturn(task);
+        Mockito.when(mockedTaskRepository.findByIdAsDTO(1L)).thenReturn(Optional.of(task.toDTO()));
 
         TaskDTO returnedTask = taskManagementService.getTaskById(1L);
 
@@ -63,32 +135,293 @@ class TaskManagementServiceTest {
         assertEquals("Task not found with id: 1", expectedException.getMessage());
     }
 
+    @Test
+    void getTaskByIdFilteredOutTest() {
+        Mockito.when(mockedTaskIdFilter.mightExist(1L)).thenReturn(false);
+
+        TaskNotFoundException expectedException = assertThrows(
+            TaskNotFoundException.class,
+            () -> taskManagementService.getTaskById(1L)
+        );
+
+        assertEquals("Task not found with id: 1", expectedException.getMessage());
+        assertEquals(0, expectedException.getStackTrace().length);
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    @Test
+    void getTasksByIdsTest() {
+        Mockito.when(mockedTaskRepository.findByIdInAsDTOs(List.of(3L, 1L, 2L)))
+            .thenReturn(List.of(getTestTask(1L).toDTO(), getTestTask(3L).toDTO()));
+
+        TaskBatchDTO result = taskManagementService.getTasksByIds(List.of(3L, 1L, 2L, 3L));
+
+        assertEquals(List.of(3L, 1L), result.getTasks().stream().map(TaskDTO::getId).toList());
+        assertEquals(List.of(2L), result.getMissingIds());
+    }
+
+    @Test
+    void getTasksByIdsChunkedTest() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+
+        TaskBatchDTO result = taskManagementService.getTasksByIds(ids);
+
+        assertEquals(2500, result.getMissingIds().size());
+        Mockito.verify(mockedTaskRepository, Mockito.times(3)).findByIdInAsDTOs(any());
+    }
+
+    @Test
+    void getTasksByIdsEmptyTest() {
+        assertThrows(InvalidRequestException.class, () -> taskManagementService.getTasksByIds(List.of()));
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    Task getTestTask(long id) {
+        Task task = getTestTask();
+        task.setId(id);
+        return task;
+    }
+
     @Test
     void getTaskAllTasksTest() {
         Task task = getTestTask();
-        Mockito.when(mockedTaskRepository.findAll()).thenReturn(List.of(task, task));
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenReturn(List.of(task.toDTO(), task.toDTO()));
 
-        List<TaskDTO> allTasks = taskManagementService.getAllTasks();
+        TaskPageDTO allTasks = taskManagementService.getAllTasks(new TaskQueryDTO());
 
-        assertEquals(2, allTasks.size());
+        assertEquals(2, allTasks.getTasks().size());
+        assertNull(allTasks.getNextCursor());
     }
 
     @Test
     void getTaskAllTasksNoneExistTest() {
         TaskNotFoundException expectedException = assertThrows(
             TaskNotFoundException.class,
-            () -> taskManagementService.getAllTasks()
+            () -> taskManagementService.getAllTasks(new TaskQueryDTO())
         );
 
         assertEquals("No tasks exist.", expectedException.getMessage());
     }
 
+    @Test
+    void getAllTasksETagMatchesPageTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(2);
+        List<Task> tasks = List.of(getTestTask(1L), getTestTask(2L), getTestTask(3L));
+        tasks.get(1).setVersion(5);
+        // Answered afresh on each call, so the page reflects the version changes made below.
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, 3))
+            .thenAnswer(invocation -> tasks.stream().map(Task::toDTO).toList());
+        Mockito.when(mockedTaskRepository.findPageVersionsAfter(0L, null, null, null, 3)).thenReturn(
+            tasks.stream().map(task -> new TaskVersionDTO(task.getId(), task.getVersion())).toList()
+        );
+
+        String etag = taskManagementService.getAllTasksETag(query);
+
+        assertEquals(TaskETags.forPage(taskManagementService.getAllTasks(query)), etag);
+        tasks.get(0).setVersion(1);
+        assertNotEquals(TaskETags.forPage(taskManagementService.getAllTasks(query)), etag);
+    }
+
+    @Test
+    void getAllTasksETagNoneExistTest() {
+        TaskNotFoundException expectedException = assertThrows(
+            TaskNotFoundException.class,
+            () -> taskManagementService.getAllTasksETag(new TaskQueryDTO())
+        );
+
+        assertEquals("No tasks exist.", expectedException.getMessage());
+    }
+
+    @Test
+    void getAllTasksNextCursorTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(2);
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, 3))
+            .thenReturn(List.of(getTestTask(1L).toDTO(), getTestTask(2L).toDTO(), getTestTask(3L).toDTO()));
+
+        TaskPageDTO firstPage = taskManagementService.getAllTasks(query);
+
+        assertEquals(2, firstPage.getTasks().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        query.setAfter(firstPage.getNextCursor());
+        Mockito.when(mockedTaskRepository.findPageAfter(2L, null, null, null, 3))
+            .thenReturn(List.of(getTestTask(3L).toDTO()));
+
+        TaskPageDTO secondPage = taskManagementService.getAllTasks(query);
+
+        assertEquals(1, secondPage.getTasks().size());
+        assertEquals(3L, secondPage.getTasks().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void getAllTasksFiltersPassedToRepositoryTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setStatus(List.of("OPEN", "PENDING"));
+        query.setDueTo(LocalDateTime.of(2026, 3, 1, 0, 0, 0));
+        Mockito.when(mockedTaskRepository.findPageAfter(
+            eq(0L), eq(List.of("OPEN", "PENDING")), isNull(), eq(query.getDueTo()), anyInt()
+        )).thenReturn(List.of(getTestTask().toDTO()));
+
+        TaskPageDTO page = taskManagementService.getAllTasks(query);
+
+        assertEquals(1, page.getTasks().size());
+    }
+
+    @Test
+    void getAllTasksNoneMatchFiltersTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setStatus(List.of("DONE"));
+
+        TaskNotFoundException expectedException = assertThrows(
+            TaskNotFoundException.class,
+            () -> taskManagementService.getAllTasks(query)
+        );
+
+        assertEquals("No tasks match the given filters.", expectedException.getMessage());
+    }
+
+    @Test
+    void getAllTasksUnknownStatusTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setStatus(List.of("OPEN", "Unknown"));
+
+        InvalidRequestException expectedException = assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.getAllTasks(query)
+        );
+
+        assertEquals(TaskStatus.NAME_MESSAGE, expectedException.getMessage());
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    @Test
+    void getOverdueTasksTest() {
+        Mockito.when(mockedTaskRepository.findOverduePageAfter(eq(0L), any(), eq(2)))
+            .thenReturn(List.of(getTestTask(1L).toDTO(), getTestTask(2L).toDTO()));
+
+        TaskPageDTO page = taskManagementService.getOverdueTasks(null, 1);
+
+        assertEquals(1, page.getTasks().size());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getOverdueTasksNoneOverdueTest() {
+        TaskNotFoundException expectedException = assertThrows(
+            TaskNotFoundException.class,
+            () -> taskManagementService.getOverdueTasks(null, null)
+        );
+
+        assertEquals("No tasks are overdue.", expectedException.getMessage());
+        Mockito.verify(mockedTaskRepository)
+            .findOverduePageAfter(eq(0L), any(), eq(TaskQueryDTO.DEFAULT_LIMIT + 1));
+    }
+
+    @Test
+    void searchTasksTest() {
+        Mockito.when(mockedTaskRepository.searchPage("bundle", 0L, 2))
+            .thenReturn(List.of(getTestTask(7L).toDTO(), getTestTask(3L).toDTO()));
+        Mockito.when(mockedTaskRepository.searchPage("bundle", 1L, 2))
+            .thenReturn(List.of(getTestTask(3L).toDTO()));
+
+        TaskPageDTO firstPage = taskManagementService.searchTasks("bundle", null, 1);
+        TaskPageDTO lastPage = taskManagementService.searchTasks("bundle", firstPage.getNextCursor(), 1);
+
+        assertEquals(7L, firstPage.getTasks().get(0).getId());
+        assertEquals(3L, lastPage.getTasks().get(0).getId());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void searchTasksNoMatchesTest() {
+        TaskNotFoundException expectedException = assertThrows(
+            TaskNotFoundException.class,
+            () -> taskManagementService.searchTasks("bundle", null, null)
+        );
+
+        assertEquals("No tasks match the search.", expectedException.getMessage());
+    }
+
+    @Test
+    void searchTasksBlankQueryTest() {
+        assertThrows(InvalidRequestException.class, () -> taskManagementService.searchTasks(" ", null, null));
+        Mockito.verify(mockedTaskRepository, Mockito.never()).searchPage(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void searchTasksIdCursorTest() {
+        // A /getTasks cursor (after id 5) doesn't hold an offset, so it can't be used to page search results.
+        assertThrows(InvalidRequestException.class, () -> taskManagementService.searchTasks("bundle", "aWQ6NQ", null));
+    }
+
+    @Test
+    void getAllTasksEmptyLaterPageTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(1);
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, 2))
+            .thenReturn(List.of(getTestTask(5L).toDTO(), getTestTask(6L).toDTO()));
+        query.setAfter(taskManagementService.getAllTasks(query).getNextCursor());
+
+        TaskPageDTO page = taskManagementService.getAllTasks(query);
+
+        assertEquals(0, page.getTasks().size());
+        assertNull(page.getNextCursor());
+        Mockito.verify(mockedTaskRepository).findPageAfter(5L, null, null, null, 2);
+    }
+
+    @Test
+    void getAllTasksInvalidLimitTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setLimit(TaskQueryDTO.MAX_LIMIT + 1);
+
+        assertThrows(InvalidRequestException.class, () -> taskManagementService.getAllTasks(query));
+        Mockito.verify(mockedTaskRepository, Mockito.never())
+            .findPageAfter(anyLong(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllTasksInvalidCursorTest() {
+        TaskQueryDTO query = new TaskQueryDTO();
+        query.setAfter("not-a-cursor");
+
+        InvalidRequestException expectedException = assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.getAllTasks(query)
+        );
+
+        assertEquals("Invalid cursor: not-a-cursor", expectedException.getMessage());
+    }
+
+    @Test
+    void exportTasksTest() throws IOException {
+        Mockito.when(mockedTaskRepository.streamAllAsDTOs())
+            .thenReturn(Stream.of(getTestTask(1L).toDTO(), getTestTask(2L).toDTO()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = taskManagementService.exportTasks(outputStream);
+
+        assertEquals(2, exported);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readValue(lines[0], TaskDTO.class).getId());
+        assertEquals(2L, objectMapper.readValue(lines[1], TaskDTO.class).getId());
+        assertEquals("2026-02-10T00:00:00", objectMapper.readTree(lines[0]).get("dueDatetime").asText());
+        Mockito.verifyNoInteractions(mockedEntityManager);
+    }
+
     @Test
     void createTaskTest() {
         CreateTaskDTO createTaskDTO = new CreateTaskDTO(
             "Test Title",
             "Test Description",
-            "Test Status",
+            "OPEN",
             LocalDateTime.of(2026, 2, 10, 0, 0, 0)
         );
         Mockito.when(mockedTaskRepository.save(any())).thenReturn(getTestTask());
@@ -99,26 +432,217 @@ class TaskManagementServiceTest {
         assertSame(createTaskDTO.getDescription(), result.getDescription());
         assertSame(createTaskDTO.getStatus(), result.getStatus());
         assertEquals(createTaskDTO.getDueDatetime(), result.getDueDatetime());
+        Mockito.verify(mockedTaskIdFilter).add(1L);
+        Mockito.verify(mockedTaskStatistics).created(result);
+        Mockito.verify(mockedTaskPageSnapshot).invalidate();
+    }
+
+    @Test
+    void createTasksTooLongTest() {
+        String tooLong = "x".repeat(Task.TEXT_MAX_LENGTH + 1);
+        List<CreateTaskDTO> createTaskDTOs = List.of(
+            new CreateTaskDTO("Title 1", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)),
+            new CreateTaskDTO(tooLong, "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)),
+            new CreateTaskDTO("Title 3", tooLong, "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0))
+        );
+        Mockito.when(mockedTaskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateResultDTO result = taskManagementService.createTasks(createTaskDTOs);
+
+        assertEquals(List.of("Title 1"), result.getCreated().stream().map(TaskDTO::getTitle).toList());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(
+            "Title must be at most 255 characters.", result.getErrors().get(0).getValidationErrors().get("title")
+        );
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertEquals(
+            "Description must be at most 255 characters.",
+            result.getErrors().get(1).getValidationErrors().get("description")
+        );
+    }
+
+    @Test
+    void createTasksTest() {
+        List<CreateTaskDTO> createTaskDTOs = new ArrayList<>();
+        createTaskDTOs.add(new CreateTaskDTO("Title 1", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)));
+        createTaskDTOs.add(new CreateTaskDTO(null, "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)));
+        createTaskDTOs.add(null);
+        createTaskDTOs.add(new CreateTaskDTO("Title 2", null, "OPEN", LocalDateTime.of(2026, 2, 11, 0, 0, 0)));
+        Mockito.when(mockedTaskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateResultDTO result = taskManagementService.createTasks(createTaskDTOs);
+
+        assertEquals(List.of("Title 1", "Title 2"), result.getCreated().stream().map(TaskDTO::getTitle).toList());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("Title is a mandatory field.", result.getErrors().get(0).getValidationErrors().get("title"));
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertEquals("Task is a mandatory item.", result.getErrors().get(1).getValidationErrors().get("task"));
+        Mockito.verify(mockedTaskRepository).saveAll(any());
+        Mockito.verify(mockedEntityManager).flush();
+        Mockito.verify(mockedEntityManager).clear();
+    }
+
+    @Test
+    void createTasksChunkedTest() {
+        CreateTaskDTO createTaskDTO = new CreateTaskDTO(
+            "Title", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)
+        );
+        Mockito.when(mockedTaskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateResultDTO result = taskManagementService.createTasks(Collections.nCopies(1200, createTaskDTO));
+
+        assertEquals(1200, result.getCreated().size());
+        Mockito.verify(mockedTaskRepository, Mockito.times(3)).saveAll(any());
+        Mockito.verify(mockedEntityManager, Mockito.times(3)).flush();
+    }
+
+    @Test
+    void createTasksEmptyTest() {
+        InvalidRequestException expectedException = assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.createTasks(List.of())
+        );
+
+        assertEquals("At least one task must be supplied.", expectedException.getMessage());
+    }
+
+    @Test
+    void createTasksTooManyTest() {
+        CreateTaskDTO createTaskDTO = new CreateTaskDTO(
+            "Title", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0, 0)
+        );
+
+        assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.createTasks(
+                Collections.nCopies(TaskManagementService.MAX_BULK_CREATE_SIZE + 1, createTaskDTO)
+            )
+        );
+        Mockito.verify(mockedTaskRepository, Mockito.never()).saveAll(any());
+    }
+
+    private List<Task> stubCopyIn() {
+        List<Task> copied = new ArrayList<>();
+        Mockito.when(mockedTaskCopyRepository.copyIn(any(), any())).thenAnswer(invocation -> {
+            Iterator<Task> tasks = invocation.getArgument(0);
+            LongConsumer idListener = invocation.getArgument(1);
+            tasks.forEachRemaining(task -> {
+                copied.add(task);
+                idListener.accept(copied.size());
+            });
+            return (long) copied.size();
+        });
+        return copied;
+    }
+
+    @Test
+    void importTasksCsvTest() throws IOException {
+        List<Task> copied = stubCopyIn();
+        String csv = "title,description,status,dueDatetime\n"
+            + "Task 1,\"desc, with comma\",OPEN,2026-02-10T00:00:00\n"
+            + ",desc,OPEN,2026-02-10T00:00:00\n"
+            + "Task 3,,OPEN,not-a-date\n"
+            + "Task 4,,OPEN,2026-02-11T09:30:00\n";
+
+        TaskImportResultDTO result = taskManagementService.importTasks(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TaskImportFormat.CSV
+        );
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of("Task 1", "Task 4"), copied.stream().map(Task::getTitle).toList());
+        Mockito.verify(mockedTaskIdFilter).add(1L);
+        Mockito.verify(mockedTaskIdFilter).add(2L);
+        Mockito.verify(mockedTaskStatistics).reconcileSoon();
+        assertEquals("desc, with comma", copied.get(0).getDescription());
+        assertNull(copied.get(1).getDescription());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("Title is a mandatory field.", result.getErrors().get(0).getValidationErrors().get("title"));
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertNotNull(result.getErrors().get(1).getValidationErrors().get("row"));
+    }
+
+    @Test
+    void importTasksCsvTooLongAndExtraColumnTest() throws IOException {
+        List<Task> copied = stubCopyIn();
+        String tooLong = "x".repeat(Task.TEXT_MAX_LENGTH + 1);
+        String csv = "title,description,status,dueDatetime,priority\n"
+            + "Task 1,,OPEN,2026-02-10T00:00:00,high\n"
+            + tooLong + ",,OPEN,2026-02-10T00:00:00,low\n"
+            + "Task 3," + tooLong + ",OPEN,2026-02-10T00:00:00,low\n"
+            + "Task 4,,OPEN,2026-02-11T09:30:00,\n";
+
+        TaskImportResultDTO result = taskManagementService.importTasks(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TaskImportFormat.CSV
+        );
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of("Task 1", "Task 4"), copied.stream().map(Task::getTitle).toList());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(
+            "Title must be at most 255 characters.", result.getErrors().get(0).getValidationErrors().get("title")
+        );
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertNotNull(result.getErrors().get(1).getValidationErrors().get("description"));
+    }
+
+    @Test
+    void importTasksNdjsonTest() throws IOException {
+        List<Task> copied = stubCopyIn();
+        String ndjson = "{\"title\":\"Task 1\",\"status\":\"OPEN\",\"dueDatetime\":\"2026-02-10T00:00:00\"}\n"
+            + "\n"
+            + "{\"title\":\"Task 2\",\"status\":\"OPEN\"}\n"
+            + "{not json\n"
+            + "{\"title\":\"Task 4\",\"status\":\"OPEN\",\"dueDatetime\":\"2026-02-11T00:00:00\"}\n";
+
+        TaskImportResultDTO result = taskManagementService.importTasks(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), TaskImportFormat.NDJSON
+        );
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of("Task 1", "Task 4"), copied.stream().map(Task::getTitle).toList());
+        assertEquals(
+            "Due Date is a mandatory field.",
+            result.getErrors().get(0).getValidationErrors().get("dueDatetime")
+        );
+        assertNotNull(result.getErrors().get(1).getValidationErrors().get("row"));
+    }
+
+    @Test
+    void importTasksRebuildsIdFilterAfterConcurrentRebuildTest() throws IOException {
+        stubCopyIn();
+        // A rebuild started while the copy ran, so it may have read the table before the copy committed.
+        Mockito.when(mockedTaskIdFilter.rebuildsStarted()).thenReturn(3L, 4L);
+        String csv = "title,description,status,dueDatetime\nTask 1,,OPEN,2026-02-10T00:00:00\n";
+
+        taskManagementService.importTasks(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TaskImportFormat.CSV
+        );
+
+        Mockito.verify(mockedTaskIdFilter).rebuild();
     }
 
     @Test
     void deleteTaskTest() {
         long id = 1L;
-        Task expectedTask = getTestTask();
-        Mockito.when(mockedTaskRepository.findTaskById(id)).thenReturn(expectedTask);
+        TaskDTO expectedTask = getTestTask().toDTO();
+        Mockito.when(mockedTaskRepository.deleteReturning(id)).thenReturn(Optional.of(expectedTask));
 
         TaskDTO taskDTO = taskManagementService.deleteTask(id);
-        assertSame(expectedTask.getId(), taskDTO.getId());
-        assertSame(expectedTask.getTitle(), taskDTO.getTitle());
-        assertSame(expectedTask.getDescription(), taskDTO.getDescription());
-        assertSame(expectedTask.getStatus(), taskDTO.getStatus());
-        assertEquals(expectedTask.getDueDatetime(), taskDTO.getDueDatetime());
+        assertSame(expectedTask, taskDTO);
+        Mockito.verify(mockedTaskRepository, Mockito.never()).findByIdAsDTO(any());
+        Mockito.verify(mockedTaskIdFilter).remove(id);
+        Mockito.verify(mockedTaskStatistics).deleted(expectedTask);
     }
 
     @Test
     void deleteTaskDoesNotExistTest() {
         long id = 1L;
-        Mockito.when(mockedTaskRepository.findTaskById(id)).thenReturn(null);
+        Mockito.when(mockedTaskRepository.deleteReturning(id)).thenReturn(Optional.empty());
 
         TaskNotFoundException expectedException = assertThrows(
             TaskNotFoundException.class,
@@ -126,40 +650,165 @@ class TaskManagementServiceTest {
         );
 
         assertEquals("Task not found with id: 1", expectedException.getMessage());
+        Mockito.verify(mockedTaskIdFilter, Mockito.never()).remove(anyLong());
+        Mockito.verifyNoInteractions(mockedTaskStatistics);
     }
 
     @Test
     void updateTaskTest() {
         long id = 1L;
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("new Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
         Task taskToUpdate = getTestTask();
         taskToUpdate.setStatus(updateTaskDTO.getStatus());
 
-        Mockito.when(mockedTaskRepository.findTaskById(id)).thenReturn(taskToUpdate);
-        Mockito.when(mockedTaskRepository.save(any())).thenReturn(taskToUpdate);
+        Mockito.when(mockedTaskRepository.updateStatusReturning(id, updateTaskDTO.getStatus(), null))
+            .thenReturn(Optional.of(new TaskStatusChangeDTO(taskToUpdate.toDTO(), "OPEN")));
 
-        TaskDTO taskDTO = taskManagementService.updateTask(id, updateTaskDTO);
+        TaskDTO taskDTO = taskManagementService.updateTask(id, updateTaskDTO, null);
         assertSame(taskToUpdate.getId(), taskDTO.getId());
         assertSame(taskToUpdate.getTitle(), taskDTO.getTitle());
         assertSame(taskToUpdate.getDescription(), taskDTO.getDescription());
         assertSame(taskToUpdate.getStatus(), taskDTO.getStatus());
         assertEquals(taskToUpdate.getDueDatetime(), taskDTO.getDueDatetime());
+        Mockito.verify(mockedTaskRepository, Mockito.never()).findByIdAsDTO(any());
+        Mockito.verify(mockedTaskRepository, Mockito.never()).save(any());
+        Mockito.verify(mockedTaskStatistics).statusChanged(taskDTO, "OPEN");
+        Mockito.verify(mockedTaskPageSnapshot).invalidate();
     }
 
     @Test
     void updateTaskDoesNotExistTest() {
         long id = 1L;
-        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("New Status");
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
 
-        Mockito.when(mockedTaskRepository.findTaskById(id)).thenReturn(null);
+        Mockito.when(mockedTaskRepository.updateStatusReturning(id, "IN_PROGRESS", null)).thenReturn(Optional.empty());
 
         TaskNotFoundException expectedException = assertThrows(
             TaskNotFoundException.class,
-            () -> taskManagementService.updateTask(id, updateTaskDTO)
+            () -> taskManagementService.updateTask(id, updateTaskDTO, null)
         );
 
         assertEquals("Task not found with id: 1", expectedException.getMessage());
+        Mockito.verify(mockedTaskRepository, Mockito.never()).existsById(any());
     }
 
+    @Test
+    void updateTaskUnknownStatusTest() {
+        InvalidRequestException expectedException = assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.updateTask(1L, new UpdateTaskDTO("Unknown"), null)
+        );
+
+        assertEquals(TaskStatus.NAME_MESSAGE, expectedException.getMessage());
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    @Test
+    void updateTaskVersionMismatchTest() {
+        long id = 1L;
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
+        Mockito.when(mockedTaskRepository.updateStatusReturning(id, "IN_PROGRESS", 3L)).thenReturn(Optional.empty());
+        Mockito.when(mockedTaskRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(
+            TaskVersionMismatchException.class,
+            () -> taskManagementService.updateTask(id, updateTaskDTO, 3L)
+        );
+    }
+
+    @Test
+    void updateTaskWithVersionDoesNotExistTest() {
+        long id = 1L;
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO("IN_PROGRESS");
+        Mockito.when(mockedTaskRepository.updateStatusReturning(id, "IN_PROGRESS", 3L)).thenReturn(Optional.empty());
+        Mockito.when(mockedTaskRepository.existsById(id)).thenReturn(false);
+
+        assertThrows(TaskNotFoundException.class, () -> taskManagementService.updateTask(id, updateTaskDTO, 3L));
+    }
+
+    @Test
+    void updateTasksStatusByIdsTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(List.of(3L, 1L, 2L, 1L), null, null, null);
+        Mockito.when(mockedTaskRepository.updateStatusByIdInReturningIds(
+            new LinkedHashSet<>(List.of(3L, 1L, 2L)), "CLOSED"
+        )).thenReturn(List.of(1L, 3L));
+
+        BulkOperationResultDTO result = taskManagementService.updateTasksStatus(
+            new BulkUpdateTaskStatusDTO(selection, "CLOSED")
+        );
+
+        assertEquals(2, result.getAffected());
+        assertEquals(List.of(3L, 1L), result.getMatchedIds());
+        assertEquals(List.of(2L), result.getMissingIds());
+        Mockito.verify(mockedTaskStatistics).reconcileSoon();
+    }
+
+    @Test
+    void updateTasksStatusNoIdsMatchTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(List.of(1L), null, null, null);
 
+        BulkOperationResultDTO result = taskManagementService.updateTasksStatus(
+            new BulkUpdateTaskStatusDTO(selection, "CLOSED")
+        );
+
+        assertEquals(0, result.getAffected());
+        assertEquals(List.of(1L), result.getMissingIds());
+    }
+
+    @Test
+    void updateTasksStatusByFilterTest() {
+        LocalDateTime dueTo = LocalDateTime.of(2026, 3, 1, 0, 0, 0);
+        TaskSelectionDTO selection = new TaskSelectionDTO(null, "OPEN", null, dueTo);
+        Mockito.when(mockedTaskRepository.updateStatusMatching("CLOSED", "OPEN", null, dueTo)).thenReturn(7);
+
+        BulkOperationResultDTO result = taskManagementService.updateTasksStatus(
+            new BulkUpdateTaskStatusDTO(selection, "CLOSED")
+        );
+
+        assertEquals(7, result.getAffected());
+        assertEquals(List.of(), result.getMatchedIds());
+    }
+
+    @Test
+    void deleteTasksByIdsTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(List.of(1L, 2L), null, null, null);
+        Mockito.when(mockedTaskRepository.deleteByIdInReturningIds(any())).thenReturn(List.of(2L));
+
+        BulkOperationResultDTO result = taskManagementService.deleteTasks(selection);
+
+        assertEquals(1, result.getAffected());
+        assertEquals(List.of(2L), result.getMatchedIds());
+        assertEquals(List.of(1L), result.getMissingIds());
+        Mockito.verify(mockedTaskIdFilter).remove(2L);
+        Mockito.verify(mockedTaskIdFilter, Mockito.never()).remove(1L);
+    }
+
+    @Test
+    void deleteTasksByFilterTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(null, "CLOSED", null, null);
+        Mockito.when(mockedTaskRepository.deleteMatching("CLOSED", null, null)).thenReturn(4);
+
+        assertEquals(4, taskManagementService.deleteTasks(selection).getAffected());
+    }
+
+    @Test
+    void deleteTasksEmptySelectionTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(null, null, null, null);
+
+        InvalidRequestException expectedException = assertThrows(
+            InvalidRequestException.class,
+            () -> taskManagementService.deleteTasks(selection)
+        );
+
+        assertEquals("Select tasks either by ids or by status and due date.", expectedException.getMessage());
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
+
+    @Test
+    void deleteTasksIdsAndFilterTest() {
+        TaskSelectionDTO selection = new TaskSelectionDTO(List.of(1L), "OPEN", null, null);
+
+        assertThrows(InvalidRequestException.class, () -> taskManagementService.deleteTasks(selection));
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+    }
 }
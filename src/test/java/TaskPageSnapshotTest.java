@@ -0,0 +1,152 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.models.TaskQueryDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskETags;
+import uk.gov.hmcts.reform.dev.service.TaskPageSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPageSnapshotTest {
+
+    private static final TaskDTO TASK =
+        new TaskDTO(1L, "Title", "desc", "OPEN", LocalDateTime.of(2026, 2, 10, 0, 0), 0L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Mock
+    private TaskRepository mockedTaskRepository;
+
+    @Mock
+    private TaskScheduler mockedTaskScheduler;
+
+    @Test
+    void disabledTest() {
+        TaskPageSnapshot snapshot = snapshot(false, Duration.ofMinutes(1));
+
+        snapshot.invalidate();
+
+        assertNull(snapshot.forQuery(new TaskQueryDTO()));
+        Mockito.verifyNoInteractions(mockedTaskScheduler, mockedTaskRepository);
+    }
+
+    @Test
+    void firstReadSchedulesRebuildTest() throws IOException {
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenReturn(List.of(TASK));
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofMinutes(1));
+
+        assertNull(snapshot.forQuery(new TaskQueryDTO()));
+        runScheduledRebuild();
+        TaskPageSnapshot.Snapshot served = snapshot.forQuery(new TaskQueryDTO());
+
+        TaskPageDTO page = new TaskPageDTO(List.of(TASK), null);
+        assertArrayEquals(objectMapper.writeValueAsBytes(page), served.getJson());
+        try (GZIPInputStream gunzipped = new GZIPInputStream(new ByteArrayInputStream(served.getGzipped()))) {
+            assertArrayEquals(served.getJson(), gunzipped.readAllBytes());
+        }
+        assertEquals(TaskETags.forPage(page), served.getEtag());
+    }
+
+    @Test
+    void onlyUnfilteredFirstPageTest() {
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofMinutes(1));
+        TaskQueryDTO filtered = new TaskQueryDTO();
+        filtered.setStatus(List.of("OPEN"));
+        TaskQueryDTO limited = new TaskQueryDTO();
+        limited.setLimit(10);
+
+        assertNull(snapshot.forQuery(filtered));
+        assertNull(snapshot.forQuery(limited));
+        Mockito.verifyNoInteractions(mockedTaskScheduler);
+    }
+
+    @Test
+    void writesAreDebouncedTest() {
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofMinutes(1));
+
+        snapshot.invalidate();
+        snapshot.invalidate();
+        snapshot.invalidate();
+
+        Mockito.verify(mockedTaskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void staleSnapshotIsNotServedTest() {
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenReturn(List.of(TASK));
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofSeconds(-1));
+        snapshot.invalidate();
+        runScheduledRebuild();
+
+        assertNull(snapshot.forQuery(new TaskQueryDTO()));
+        Mockito.verify(mockedTaskScheduler, Mockito.times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void serveLastSnapshotWhileRebuildPendingTest() {
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenReturn(List.of(TASK));
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofMinutes(1));
+        snapshot.invalidate();
+        runScheduledRebuild();
+
+        snapshot.invalidate();
+
+        assertNotNull(snapshot.forQuery(new TaskQueryDTO()));
+    }
+
+    @Test
+    void builtAtIsWhenTheQueryStartedTest() {
+        Instant[] queried = new Instant[1];
+        Mockito.when(mockedTaskRepository.findPageAfter(0L, null, null, null, TaskQueryDTO.DEFAULT_LIMIT + 1))
+            .thenAnswer(invocation -> {
+                queried[0] = Instant.now();
+                Thread.sleep(5);
+                return List.of(TASK);
+            });
+        TaskPageSnapshot snapshot = snapshot(true, Duration.ofMinutes(1));
+        snapshot.invalidate();
+        runScheduledRebuild();
+
+        assertFalse(snapshot.forQuery(new TaskQueryDTO()).getBuiltAt().isAfter(queried[0]));
+    }
+
+    private TaskPageSnapshot snapshot(boolean enabled, Duration maxStaleness) {
+        return new TaskPageSnapshot(
+            mockedTaskRepository, objectMapper, mockedTaskScheduler, enabled, Duration.ofMillis(200), maxStaleness, true
+        );
+    }
+
+    private void runScheduledRebuild() {
+        ArgumentCaptor<Runnable> rebuild = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(mockedTaskScheduler).schedule(rebuild.capture(), any(Instant.class));
+        rebuild.getValue().run();
+    }
+}
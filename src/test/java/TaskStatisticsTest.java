@@ -0,0 +1,135 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import uk.gov.hmcts.reform.dev.models.TaskCountDTO;
+import uk.gov.hmcts.reform.dev.models.TaskDTO;
+import uk.gov.hmcts.reform.dev.models.TaskStatsDTO;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskStatistics;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TaskRepository mockedTaskRepository;
+
+    @Mock
+    private TaskScheduler mockedTaskScheduler;
+
+    @Test
+    void firstReadReconcilesTest() {
+        Mockito.when(mockedTaskRepository.countByStatusAndDueDate()).thenReturn(List.of(
+            new TaskCountDTO("OPEN", TODAY.minusDays(3), 2L),
+            new TaskCountDTO("IN_PROGRESS", TODAY, 1L),
+            new TaskCountDTO("PENDING", TODAY.plusDays(30), 4L),
+            new TaskCountDTO("CLOSED", TODAY.minusDays(3), 5L)
+        ));
+        TaskStatistics statistics = statistics();
+
+        TaskStatsDTO stats = statistics.getStats();
+
+        assertEquals(12, stats.getTotal());
+        assertEquals(
+            Map.of("OPEN", 2L, "IN_PROGRESS", 1L, "PENDING", 4L, "DONE", 0L, "CLOSED", 5L),
+            stats.getByStatus()
+        );
+        assertEquals(Map.of("overdue", 2L, "today", 1L, "thisWeek", 0L, "later", 4L), stats.getByDueDate());
+    }
+
+    @Test
+    void writesUpdateCountersTest() {
+        TaskStatistics statistics = statistics();
+        statistics.reconcile();
+        TaskDTO dueThisWeek = task("OPEN", TODAY.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)));
+        TaskDTO dueTomorrow = task("OPEN", TODAY.plusDays(1));
+        TaskDTO overdue = task("OPEN", TODAY.minusDays(1));
+
+        statistics.created(dueThisWeek);
+        statistics.created(dueTomorrow);
+        statistics.created(overdue);
+        dueTomorrow.setStatus("DONE");
+        statistics.statusChanged(dueTomorrow, "OPEN");
+        statistics.deleted(overdue);
+
+        TaskStatsDTO stats = statistics.getStats();
+
+        assertEquals(2, stats.getTotal());
+        assertEquals(1L, stats.getByStatus().get("OPEN"));
+        assertEquals(1L, stats.getByStatus().get("DONE"));
+        long dueLaterThisWeek = TODAY.getDayOfWeek() == DayOfWeek.SUNDAY ? 0 : 1;
+        assertEquals(dueLaterThisWeek, stats.getByDueDate().get("thisWeek"));
+        assertEquals(0L, stats.getByDueDate().get("overdue"));
+        Mockito.verify(mockedTaskRepository).countByStatusAndDueDate();
+    }
+
+    @Test
+    void reconcileCorrectsDriftTest() {
+        TaskStatistics statistics = statistics();
+        statistics.reconcile();
+        statistics.created(task("OPEN", TODAY));
+        Mockito.when(mockedTaskRepository.countByStatusAndDueDate())
+            .thenReturn(List.of(new TaskCountDTO("OPEN", TODAY, 3L)));
+
+        statistics.reconcile();
+
+        assertEquals(3L, statistics.getStats().getByStatus().get("OPEN"));
+    }
+
+    @Test
+    void writeDuringReconcileIsKeptTest() {
+        TaskStatistics statistics = statistics();
+        Mockito.when(mockedTaskRepository.countByStatusAndDueDate()).thenAnswer(invocation -> {
+            statistics.created(task("PENDING", TODAY));
+            return List.of(new TaskCountDTO("OPEN", TODAY, 1L));
+        });
+
+        statistics.reconcile();
+
+        assertEquals(1L, statistics.getStats().getByStatus().get("PENDING"));
+        assertEquals(2L, statistics.getStats().getByDueDate().get("today"));
+    }
+
+    @Test
+    void reconcileSoonIsDebouncedTest() {
+        Mockito.when(mockedTaskRepository.countByStatusAndDueDate())
+            .thenReturn(List.of(new TaskCountDTO("OPEN", TODAY, 2L)));
+        TaskStatistics statistics = statistics();
+
+        statistics.reconcileSoon();
+        statistics.reconcileSoon();
+
+        ArgumentCaptor<Runnable> reconcile = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(mockedTaskScheduler).schedule(reconcile.capture(), any(Instant.class));
+        Mockito.verifyNoInteractions(mockedTaskRepository);
+        reconcile.getValue().run();
+        assertEquals(2L, statistics.getStats().getByStatus().get("OPEN"));
+
+        statistics.reconcileSoon();
+        Mockito.verify(mockedTaskScheduler, Mockito.times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private TaskStatistics statistics() {
+        return new TaskStatistics(mockedTaskRepository, mockedTaskScheduler, Duration.ofSeconds(1));
+    }
+
+    private static TaskDTO task(String status, LocalDate dueDate) {
+        return new TaskDTO(1L, "Title", "desc", status, dueDate.atTime(12, 0), 0L);
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskStatusTest {
+
+    private final TaskStatusConverter converter = new TaskStatusConverter();
+
+    @Test
+    void namePatternListsEveryStatusTest() {
+        String names = Arrays.stream(TaskStatus.values()).map(Enum::name).collect(Collectors.joining("|"));
+
+        assertEquals(names, TaskStatus.NAME_PATTERN);
+    }
+
+    @Test
+    void codesRoundTripTest() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(status, TaskStatus.fromCode(status.getCode()));
+            assertEquals(status.name(), converter.convertToEntityAttribute(converter.convertToDatabaseColumn(
+                status.name()
+            )));
+        }
+    }
+
+    @Test
+    void legacyStatusMigrationMatchesCodesTest() throws IOException {
+        String migration;
+        try (InputStream sql = TaskStatusTest.class.getResourceAsStream(
+            "/db/migration/postgresql/V1_1__convert_task_status_to_codes.sql")) {
+            migration = new String(sql.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String names = Arrays.stream(TaskStatus.values())
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ", "NOT IN (", ")"));
+        assertTrue(migration.contains(names));
+        for (TaskStatus status : TaskStatus.values()) {
+            assertTrue(migration.contains("WHEN '" + status.name() + "' THEN " + status.getCode()));
+        }
+    }
+
+    @Test
+    void activeStatusesAreTheNonTerminalOnesTest() {
+        assertEquals(List.of(TaskStatus.OPEN, TaskStatus.IN_PROGRESS, TaskStatus.PENDING), TaskStatus.active());
+    }
+
+    @Test
+    void unknownStatusTest() {
+        IllegalArgumentException expectedException = assertThrows(
+            IllegalArgumentException.class,
+            () -> TaskStatus.fromName("open")
+        );
+
+        assertEquals(TaskStatus.NAME_MESSAGE, expectedException.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromCode((short) 99));
+    }
+
+    @Test
+    void nullStatusTest() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}